@@ -5,13 +5,12 @@
 *******************************************************************************/
 package elva.form;
 
-import javax.xml.namespace.QName;
-
 import elva.lang.ElvaEval;
 import elva.lang.ListBase;
 import elva.lang.NativeOp;
 import elva.lang.NativeOp.Args;
 import elva.lang.NativeOp.Name;
+import qxsl.value.Symbols;
 
 /**
  * returns a qualified name in the specified namespace.
@@ -31,6 +30,6 @@ public final class NameForm extends NativeOp {
 	public Object apply(ListBase args, ElvaEval eval) {
 		final var space = eval.apply(args.get(0)).text();
 		final var local = eval.apply(args.get(1)).text();
-		return new QName(space, local);
+		return Symbols.intern(space, local);
 	}
 }
@@ -43,7 +43,32 @@ public final class BandFactory implements FieldFactory {
 	 */
 	@Override
 	public final Field decode(String value) {
-		return new Band(new BigDecimal(value));
+		final int len = value.length();
+		if(len == 0 || len > 18) return Band.of(new BigDecimal(value));
+		long kHz = 0;
+		for(int i = 0; i < len; i++) {
+			final char ch = value.charAt(i);
+			if(ch < '0' || ch > '9') return Band.of(new BigDecimal(value));
+			kHz = kHz * 10 + (ch - '0');
+		}
+		return Band.of(kHz);
+	}
+
+	/**
+	 * 指定された値から文字列を経由せずに属性値の実体を構築します。
+	 *
+	 *
+	 * @param value 属性値
+	 *
+	 * @return 生成された属性値
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final Field of(Object value) {
+		if(value instanceof BigDecimal) return Band.of((BigDecimal) value);
+		if(value instanceof Integer) return Band.of((Integer) value);
+		return decode(value.toString());
 	}
 
 	/**
@@ -56,6 +81,8 @@ public final class BandFactory implements FieldFactory {
 	 */
 	@Override
 	public final String encode(Field field) {
-		return ((Band) field).value().toPlainString();
+		final var band = (Band) field;
+		if(!band.isIntegral()) return band.value().toPlainString();
+		return Long.toString(band.toKHz());
 	}
 }
@@ -42,7 +42,7 @@ public final class CallFactory implements FieldFactory {
 	 */
 	@Override
 	public final Field decode(String value) {
-		return new Call(value);
+		return Call.of(value);
 	}
 
 	/**
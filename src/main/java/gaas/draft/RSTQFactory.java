@@ -45,6 +45,22 @@ public final class RSTQFactory implements FieldFactory {
 		return new RSTQ(Integer.parseInt(value));
 	}
 
+	/**
+	 * 指定された値から文字列を経由せずに属性値の実体を構築します。
+	 *
+	 *
+	 * @param value 属性値
+	 *
+	 * @return 生成された属性値
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final Field of(Object value) {
+		if(value instanceof Integer) return new RSTQ((Integer) value);
+		return decode(value.toString());
+	}
+
 	/**
 	 * 指定された属性値を文字列に変換します。
 	 *
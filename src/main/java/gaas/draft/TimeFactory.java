@@ -5,6 +5,7 @@
 *******************************************************************************/
 package gaas.draft;
 
+import java.time.ZonedDateTime;
 import javax.xml.namespace.QName;
 
 import qxsl.draft.Qxsl;
@@ -48,6 +49,22 @@ public final class TimeFactory implements FieldFactory {
 		return new Time(parse(value, ISO_ZONED_DATE_TIME));
 	}
 
+	/**
+	 * 指定された値から文字列を経由せずに属性値の実体を構築します。
+	 *
+	 *
+	 * @param value 属性値
+	 *
+	 * @return 生成された属性値
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final Field of(Object value) {
+		if(value instanceof ZonedDateTime) return new Time((ZonedDateTime) value);
+		return decode(value.toString());
+	}
+
 	/**
 	 * 指定された属性値を文字列に変換します。
 	 *
@@ -11,11 +11,11 @@ import java.io.StringReader;
 import java.io.Writer;
 import javax.xml.namespace.QName;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 
 import org.xml.sax.SAXException;
 
+import gaas.utils.SchemaPool;
+
 import qxsl.sheet.PrintFactory;
 import qxsl.sheet.SheetDecoder;
 import qxsl.sheet.SheetEncoder;
@@ -32,7 +32,7 @@ public final class JarlFactory extends PrintFactory {
 	public static final QName DOC = new QName("DOCUMENT");
 	public static final QName SUM = new QName("SUMMARYSHEET");
 	private final String JXSD = "jarl.xsd";
-	private final Schema schema;
+	private final SchemaPool schema;
 
 	/**
 	 * 構文の定義を読み取って書式を構築します。
@@ -73,6 +73,7 @@ public final class JarlFactory extends PrintFactory {
 
 	/**
 	 * 書式の構文の定義をリソースから読み取ります。
+	 * 構文の定義はプロセス全体で共有されます。
 	 *
 	 *
 	 * @return スキーマ
@@ -81,9 +82,8 @@ public final class JarlFactory extends PrintFactory {
 	 *
 	 * @since 2020/09/05
 	 */
-	private final Schema loadSchema() throws SAXException {
-		final var fact = SchemaFactory.newDefaultInstance();
-		return fact.newSchema(getClass().getResource(JXSD));
+	private final SchemaPool loadSchema() throws SAXException {
+		return SchemaPool.of(getClass().getResource(JXSD));
 	}
 
 	/**
@@ -100,7 +100,7 @@ public final class JarlFactory extends PrintFactory {
 		try {
 			final var reader = new StringReader(string);
 			final var source = new StreamSource(reader);
-			this.schema.newValidator().validate(source);
+			this.schema.validate(source);
 			return new StringReader(string);
 		} catch (SAXException ex) {
 			throw new IOException(ex);
@@ -7,14 +7,16 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import javax.xml.namespace.QName;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import qxsl.field.FieldManager;
+import qxsl.field.FieldManager.Cache;
 import qxsl.model.Item;
 import qxsl.table.PrintDecoder;
 import qxsl.value.Field;
+import qxsl.value.Symbols;
 
 import static gaas.table.AdisFactory.EOH;
 import static gaas.table.AdisFactory.EOR;
@@ -22,6 +24,7 @@ import static gaas.table.AdisFactory.URI;
 
 /**
  * ADIサブセット書式で直列化された交信記録をデコードします。
+ * 各交信記録は、文字列の長さを参照して一度の走査で読み取ります。
  *
  *
  * @author 無線部開発班
@@ -29,10 +32,17 @@ import static gaas.table.AdisFactory.URI;
  * @since 2019/07/08
  */
 public final class AdisDecoder extends PrintDecoder {
+	private static final String END_OF_HEAD = EOH.substring(1, 4);
+	private static final String END_OF_ITEM = EOR.substring(1, 4);
+	private final Map<String, Cache> caches;
+	private final StringBuilder chars;
 	private final FieldManager fields;
 	private final AdisFactory format;
-	private final Pattern pattern;
+	private final char[] buffer;
 	private boolean isValid;
+	private Item ahead;
+	private int index;
+	private int limit;
 
 	/**
 	 * 指定された入力を読み込むデコーダを構築します。
@@ -43,10 +53,12 @@ public final class AdisDecoder extends PrintDecoder {
 	 */
 	public AdisDecoder(Reader reader, AdisFactory format) {
 		super(reader);
-		this.fields = new FieldManager();
+		this.fields = FieldManager.FIELDS;
+		this.caches = new HashMap<>();
 		this.format = format;
 		this.isValid = false;
-		this.pattern = Pattern.compile(format.get("regex"));
+		this.chars = new StringBuilder();
+		this.buffer = new char[8192];
 	}
 
 	/**
@@ -59,8 +71,9 @@ public final class AdisDecoder extends PrintDecoder {
 	 */
 	@Override
 	public final void head() throws IOException {
-		final boolean head = this.peek() != '<';
-		if(head) isValid = collect(EOH) != null;
+		final int first = read();
+		if(first == '<') this.index--;
+		else if(first >= 0) isValid = skip(END_OF_HEAD);
 	}
 
 	/**
@@ -89,15 +102,15 @@ public final class AdisDecoder extends PrintDecoder {
 	 */
 	@Override
 	public final Item next() throws IOException {
-		final var item = new Item();
-		final var text = collect(EOR);
-		final var iter = pattern.matcher(text).reset();
-		while(iter.find()) item.set(field(iter, text));
+		if(!hasNext()) throw new NoSuchElementException();
+		final var item = this.ahead;
+		this.ahead = null;
 		return item;
 	}
 
 	/**
 	 * ストリームに交信記録が存在するかを確認します。
+	 * 終端の記号を伴わない末尾の交信記録は無視します。
 	 *
 	 *
 	 * @return 交信記録を読み取れる場合は真
@@ -108,28 +121,199 @@ public final class AdisDecoder extends PrintDecoder {
 	 */
 	@Override
 	public final boolean hasNext() throws IOException {
-		final var exists = collect(EOR) != null;
-		this.isValid |= exists;
-		super.reset();
-		return exists;
+		if(ahead == null) ahead = item();
+		this.isValid |= ahead != null;
+		return ahead != null;
+	}
+
+	/**
+	 * 入力から1文字を読み取ります。
+	 *
+	 *
+	 * @return 文字 または末尾の場合は-1
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final int read() throws IOException {
+		if(index == limit && !fill()) return -1;
+		return buffer[index++];
+	}
+
+	/**
+	 * 入力から読み取った文字で緩衝領域を満たします。
+	 *
+	 *
+	 * @return 末尾に到達した場合は偽
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final boolean fill() throws IOException {
+		final int size = read(buffer, 0, buffer.length);
+		this.index = 0;
+		this.limit = Math.max(size, 0);
+		return size > 0;
+	}
+
+	/**
+	 * 次の区切り記号を読み取り、記号の内側の文字列を返します。
+	 * 区切り記号の外側の文字列は読み飛ばします。
+	 *
+	 *
+	 * @return 区切り記号の内側 または末尾の場合はnull
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final String tag() throws IOException {
+		int ch;
+		while((ch = read()) != '<') if(ch < 0) return null;
+		chars.setLength(0);
+		while((ch = read()) != '>') {
+			if(ch < 0) return null;
+			if(ch == '<') chars.setLength(0);
+			else chars.append((char) ch);
+		}
+		return chars.toString();
+	}
+
+	/**
+	 * 指定された名前の区切り記号まで読み飛ばします。
+	 *
+	 *
+	 * @param name 区切り記号の名前
+	 *
+	 * @return 区切り記号を発見した場合は真
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final boolean skip(String name) throws IOException {
+		String tag;
+		while((tag = tag()) != null) {
+			if(tag.equalsIgnoreCase(name)) return true;
+			final int len = length(tag);
+			if(len > 0 && value(len) == null) return false;
+		}
+		return false;
+	}
+
+	/**
+	 * 次の交信記録を終端の記号まで読み取ります。
+	 *
+	 *
+	 * @return 交信記録 または末尾の場合はnull
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final Item item() throws IOException {
+		final var item = new Item();
+		String tag;
+		while((tag = tag()) != null) {
+			if(tag.equalsIgnoreCase(END_OF_ITEM)) return item;
+			final int len = length(tag);
+			if(len < 0) continue;
+			final var value = value(len);
+			if(value == null) return null;
+			item.set(field(tag.substring(0, tag.indexOf(':')), value));
+		}
+		return null;
+	}
+
+	/**
+	 * 指定された区切り記号から属性値の文字数を読み取ります。
+	 * 区切り記号は名前と文字数と省略可能な型で構成されます。
+	 *
+	 *
+	 * @param tag 区切り記号の内側
+	 *
+	 * @return 属性値の文字数 または属性でない場合は-1
+	 *
+	 * @throws IOException 文字数が大きすぎる場合
+	 *
+	 * @since 2026/10/17
+	 */
+	static final int length(String tag) throws IOException {
+		final int col = tag.indexOf(':');
+		final int typ = tag.indexOf(':', col + 1);
+		final int end = typ < 0? tag.length(): typ;
+		if(col <= 0 || end == col + 1) return -1;
+		if(typ >= 0 && typ != tag.length() - 2) return -1;
+		if(typ >= 0 && !word(tag.charAt(typ + 1))) return -1;
+		for(int i = 0; i < col; i++) if(!word(tag.charAt(i))) return -1;
+		long len = 0;
+		for(int i = col + 1; i < end; i++) {
+			final char ch = tag.charAt(i);
+			if(ch < '0' || ch > '9') return -1;
+			len = len * 10 + (ch - '0');
+			if(len > Integer.MAX_VALUE) throw new IOException(tag);
+		}
+		return (int) len;
+	}
+
+	/**
+	 * 指定された文字が名前に使用可能な英数字であるかを確認します。
+	 *
+	 *
+	 * @param ch 文字
+	 *
+	 * @return 英数字または下線の場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final boolean word(char ch) {
+		if(ch >= 'a' && ch <= 'z') return true;
+		if(ch >= 'A' && ch <= 'Z') return true;
+		if(ch >= '0' && ch <= '9') return true;
+		return ch == '_';
+	}
+
+	/**
+	 * 指定された文字数の属性値を読み取ります。
+	 *
+	 *
+	 * @param len 属性値の文字数
+	 *
+	 * @return 属性値 または末尾の場合はnull
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final String value(int len) throws IOException {
+		final var text = new StringBuilder(Math.min(len, buffer.length));
+		while(text.length() < len) {
+			if(index == limit && !fill()) return null;
+			final int size = Math.min(len - text.length(), limit - index);
+			text.append(buffer, index, size);
+			this.index += size;
+		}
+		return text.toString();
 	}
 
 	/**
-	 * 構文解析器が参照する現在位置から属性を読み取ります。
+	 * 指定された名前と値の属性を返します。
 	 *
 	 *
-	 * @param match 正規表現の解析器
-	 * @param field 属性が並ぶ文字列
+	 * @param name 属性の名前
+	 * @param value 属性の値
 	 *
-	 * @return 読み取った属性
+	 * @return 属性
 	 *
 	 * @since 2020/09/06
 	 */
-	private final Field field(Matcher match, String field) {
-		final int index = match.end();
-		final var local = match.group(1).toUpperCase();
-		final var bytes = Integer.parseInt(match.group(2));
-		final var value = field.substring(index, index + bytes);
-		return fields.cache(new QName(URI, local)).field(value);
+	private final Field field(String name, String value) {
+		final var cache = caches.get(name);
+		if(cache != null) return cache.field(value);
+		final var made = fields.cache(Symbols.intern(URI, name.toUpperCase()));
+		caches.put(name, made);
+		return made.field(value);
 	}
 }
@@ -41,7 +41,7 @@ public final class AdisEncoder extends PrintEncoder {
 	 */
 	public AdisEncoder(Writer writer, AdisFactory format) {
 		super(writer);
-		this.fields = new FieldManager();
+		this.fields = FieldManager.FIELDS;
 		this.format = format;
 	}
 
@@ -5,8 +5,10 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.regex.Pattern;
 
 import qxsl.table.PrintFactory;
 import qxsl.table.TableDecoder;
@@ -24,12 +26,14 @@ public final class AdisFactory extends PrintFactory {
 	public static final String URI = "adif.org";
 	public static final String EOH = "<eoh>";
 	public static final String EOR = "<eor>";
+	private final Pattern pattern;
 
 	/**
 	 * 書式を構築します。
 	 */
 	public AdisFactory() {
 		super("adis", "ASCII");
+		this.pattern = Pattern.compile(get("regex"));
 	}
 
 	/**
@@ -57,4 +61,57 @@ public final class AdisFactory extends PrintFactory {
 	public final TableEncoder encoder(Writer writer) {
 		return new AdisEncoder(writer, this);
 	}
+
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		final var text = head.toLowerCase();
+		if(text.contains(EOH)) return 3;
+		if(pattern.matcher(head).find()) return 2;
+		return text.stripLeading().startsWith("<")? 0: 1;
+	}
+
+	/**
+	 * 指定された文字列のうち完結した交信記録の末尾の位置を返します。
+	 * 属性値の文字数を参照して、終端の記号の直後の位置を返します。
+	 *
+	 *
+	 * @param text 交信記録の文字列
+	 *
+	 * @return 完結した部分の文字数
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int boundary(String text) {
+		final var last = EOR.substring(1, 4);
+		int done = 0;
+		for(int i = text.indexOf('<'); i >= 0; i = text.indexOf('<', i)) {
+			final int end = text.indexOf('>', i);
+			if(end < 0) break;
+			final var tag = text.substring(text.lastIndexOf('<', end) + 1, end);
+			i = end + 1;
+			if(tag.equalsIgnoreCase(last)) {
+				done = i;
+				continue;
+			}
+			try {
+				final int len = AdisDecoder.length(tag);
+				if(len > text.length() - i) break;
+				if(len > 0) i += len;
+			} catch (IOException ex) {
+				break;
+			}
+		}
+		return done;
+	}
 }
@@ -7,21 +7,22 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import javax.xml.namespace.QName;
-import javax.xml.stream.EventFilter;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.EndElement;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
 import qxsl.table.TableDecoder;
+import qxsl.value.Symbols;
 import qxsl.value.Tuple;
 
 import static gaas.table.AdxsFactory.*;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 /**
  * ADXサブセット書式で直列化された交信記録をデコードします。
@@ -34,8 +35,10 @@ import static gaas.table.AdxsFactory.*;
 public final class AdxsDecoder extends TableDecoder {
 	private final FieldManager fields;
 	private final AdxsFactory format;
+	private final Validation level;
 	private final Reader source;
-	private XMLEventReader reader;
+	private final Map<String, QName> names;
+	private XMLStreamReader reader;
 
 	/**
 	 * 指定された入力を読み込むデコーダを構築します。
@@ -43,11 +46,14 @@ public final class AdxsDecoder extends TableDecoder {
 	 *
 	 * @param reader 入力
 	 * @param format 書式
+	 * @param level 検証の水準
 	 */
-	public AdxsDecoder(Reader reader, AdxsFactory format) {
-		this.fields = new FieldManager();
+	public AdxsDecoder(Reader reader, AdxsFactory format, Validation level) {
+		this.fields = FieldManager.FIELDS;
 		this.format = format;
+		this.names = new HashMap<>();
 		this.source = reader;
+		this.level = level;
 	}
 
 	/**
@@ -78,12 +84,12 @@ public final class AdxsDecoder extends TableDecoder {
 	public final void head() throws IOException {
 		this.reader = reader();
 		try {
+			tag();
 			start(ROOT);
 			start(HEAD);
-			while(reader.peek().isStartElement()) {
-				final var tag = reader.nextTag();
-				reader.nextEvent();
-				close(tag.asStartElement().getName());
+			while(reader.isStartElement()) {
+				reader.getElementText();
+				tag();
 			}
 			close(HEAD);
 			start(LIST);
@@ -105,6 +111,7 @@ public final class AdxsDecoder extends TableDecoder {
 		try {
 			close(LIST);
 			close(ROOT);
+			if(level != Validation.NONE) drain();
 		} catch (XMLStreamException ex) {
 			throw new IOException(ex);
 		}
@@ -141,11 +148,7 @@ public final class AdxsDecoder extends TableDecoder {
 	 */
 	@Override
 	public final boolean hasNext() throws IOException {
-		try {
-			return ahead(ITEM);
-		} catch (XMLStreamException ex) {
-			throw new IOException(ex);
-		}
+		return ahead(ITEM);
 	}
 
 	/**
@@ -162,98 +165,146 @@ public final class AdxsDecoder extends TableDecoder {
 	 */
 	private final Item item(Item item) throws XMLStreamException {
 		start(ITEM);
-		while(reader.peek().isStartElement()) field(item);
+		while(reader.isStartElement()) field(item);
 		close(ITEM);
 		return item;
 	}
 
 	/**
-	 * 文字列を読み飛ばすフィルタです。
+	 * 文字列を読み飛ばさずに検証するリーダを返します。
+	 * 空白は後続のタグの読み取り時に読み飛ばします。
 	 *
 	 *
-	 * @author 無線部開発班
+	 * @return リーダ
+	 *
+	 * @throws IOException リーダの構築に失敗した場合
 	 *
 	 * @since 2020/09/05
 	 */
-	private static final class Skip implements EventFilter {
-		@Override
-		public boolean accept(XMLEvent e) {
-			return !e.isCharacters() || !e.asCharacters().isWhiteSpace();
+	private final XMLStreamReader reader() throws IOException {
+		try {
+			final var factor = XMLInputFactory.newInstance();
+			final var reader = factor.createXMLStreamReader(this.source);
+			if(level == Validation.FULL) return format.valid(reader);
+			return reader;
+		} catch (XMLStreamException ex) {
+			throw new IOException(ex);
 		}
 	}
 
 	/**
-	 * 文字列を読み飛ばすフィルタを適用したリーダを返します。
+	 * 文書の末尾まで読み取って文書の全体を検証します。
 	 *
 	 *
-	 * @return リーダ
+	 * @throws XMLStreamException 読み取りまたは検証に失敗した場合
 	 *
-	 * @throws IOException リーダの構築に失敗した場合
+	 * @since 2026/10/17
+	 */
+	private final void drain() throws XMLStreamException {
+		while(reader.hasNext()) reader.next();
+	}
+
+	/**
+	 * 空白と注釈を読み飛ばして次の開始または終了タグに進みます。
+	 * 文書の末尾に到達した場合は、文書の終了の位置で停止します。
 	 *
-	 * @since 2020/09/05
+	 *
+	 * @throws XMLStreamException 空白以外の文字列が出現した場合
+	 *
+	 * @since 2026/10/17
 	 */
-	private final XMLEventReader reader() throws IOException {
-		try {
-			final var string = format.valid(this.source);
-			final var factor = XMLInputFactory.newInstance();
-			final var reader = factor.createXMLEventReader(string);
-			return factor.createFilteredReader(reader, new Skip());
-		} catch (XMLStreamException ex) {
-			throw new IOException(ex);
+	private final void tag() throws XMLStreamException {
+		while(reader.hasNext()) switch(reader.next()) {
+			case START_ELEMENT:
+			case END_ELEMENT: return;
+			case CHARACTERS:
+			case CDATA: if(reader.isWhiteSpace()) continue;
+			final var msg = "tag required but text found";
+			throw new XMLStreamException(msg, reader.getLocation());
 		}
 	}
 
 	/**
-	 * 次のタグが指定された名前の要素の開始であるかを確認します。
+	 * 現在のタグが指定された名前の要素であるかを確認します。
 	 *
 	 *
-	 * @param name 開始する要素の名前
+	 * @param name 要素の名前
 	 *
-	 * @return 指定された要素が見つかった場合に真
+	 * @return 指定された要素の場合に真
 	 *
-	 * @throws XMLStreamException 要素の読み取りに失敗した場合
+	 * @since 2026/10/17
 	 */
-	private boolean ahead(QName name) throws XMLStreamException {
-		if(!reader.peek().isStartElement()) return false;
-		return reader.peek().asStartElement().getName().equals(name);
+	private final boolean named(QName name) {
+		final var uri = Objects.toString(reader.getNamespaceURI(), "");
+		if(!name.getLocalPart().equals(reader.getLocalName())) return false;
+		return name.getNamespaceURI().equals(uri);
 	}
 
 	/**
-	 * 次のタグが指定された名前の要素の開始タグであるかを確認します。
+	 * 現在のタグが指定された名前の要素の開始であるかを確認します。
 	 *
 	 *
 	 * @param name 開始する要素の名前
 	 *
-	 * @return 見つかった要素
+	 * @return 指定された要素が見つかった場合に真
+	 */
+	private boolean ahead(QName name) {
+		return reader.isStartElement() && named(name);
+	}
+
+	/**
+	 * 現在のタグが指定された名前の要素の開始タグであるかを確認し、
+	 * 次のタグに進みます。
+	 *
+	 *
+	 * @param name 開始する要素の名前
 	 *
 	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
-	private StartElement start(QName name) throws XMLStreamException {
-		final var start = reader.nextTag().asStartElement();
-		if(start.getName().equals(name)) return start;
-		final var msg = "<%s> required but <%s> found";
-		throw new XMLStreamException(String.format(msg, name, start));
+	private void start(QName name) throws XMLStreamException {
+		if(ahead(name)) {
+			tag();
+			return;
+		}
+		final var msg = "<%s> required but %s found";
+		throw new XMLStreamException(String.format(msg, name, found()));
 	}
 
 	/**
-	 * 次のタグが指定された名前の要素の終了タグであるかを確認します。
+	 * 現在のタグが指定された名前の要素の終了タグであるかを確認し、
+	 * 次のタグに進みます。
 	 *
 	 *
 	 * @param name 終了する要素の名前
 	 *
-	 * @return 見つかった要素
-	 *
 	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
-	private EndElement close(QName name) throws XMLStreamException {
-		final var close = reader.nextTag().asEndElement();
-		if(close.getName().equals(name)) return close;
-		final var msg = "</%s> required but </%s> found";
-		throw new XMLStreamException(String.format(msg, name, close));
+	private void close(QName name) throws XMLStreamException {
+		if(reader.isEndElement() && named(name)) {
+			tag();
+			return;
+		}
+		final var msg = "</%s> required but %s found";
+		throw new XMLStreamException(String.format(msg, name, found()));
+	}
+
+	/**
+	 * 現在のタグを例外の通知に適した文字列に変換します。
+	 *
+	 *
+	 * @return タグの文字列表現
+	 *
+	 * @since 2026/10/17
+	 */
+	private final String found() {
+		if(reader.isStartElement()) return "<".concat(reader.getLocalName()).concat(">");
+		if(reader.isEndElement()) return "</".concat(reader.getLocalName()).concat(">");
+		return String.format("event %d", reader.getEventType());
 	}
 
 	/**
-	 * 次のタグの内容を指定されたタプルに属性として設定します。
+	 * 現在のタグの内容を指定されたタプルに属性として設定し、
+	 * 次のタグに進みます。
 	 *
 	 *
 	 * @param tuple 属性を設定するタプル
@@ -261,10 +312,26 @@ public final class AdxsDecoder extends TableDecoder {
 	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
 	private final void field(Tuple tuple) throws XMLStreamException {
-		final var tag = reader.nextTag().asStartElement().getName();
-		final var key = new QName(NURI, tag.getLocalPart());
-		final var val = reader.nextEvent().asCharacters();
-		tuple.set(fields.cache(key).field(val.toString()));
-		close(tag);
+		final var key = name(reader.getLocalName());
+		final var val = reader.getElementText();
+		if(!val.isEmpty()) tuple.set(fields.cache(key).field(val));
+		tag();
+	}
+
+	/**
+	 * 指定された要素の名前を文書内で共有する属性の名前に変換します。
+	 *
+	 *
+	 * @param local 要素の名前
+	 *
+	 * @return 属性の名前
+	 *
+	 * @since 2026/10/17
+	 */
+	private final QName name(String local) {
+		final var name = names.get(local);
+		if(name != null) return name;
+		names.put(local, Symbols.intern(NURI, local));
+		return names.get(local);
 	}
 }
@@ -42,7 +42,7 @@ public final class AdxsEncoder extends TableEncoder {
 	 * @param format 書式
 	 */
 	public AdxsEncoder(Writer writer, AdxsFactory format) {
-		this.fields = new FieldManager();
+		this.fields = FieldManager.FIELDS;
 		this.format = format;
 		this.target = writer;
 	}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.table;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 固定長のバイナリデータを緩衝領域に蓄積して一括で書き込みます。
+ * 緩衝領域は再利用され、満杯になるか明示的に要求された時点で、
+ * 出力のチャネルに書き込まれます。
+ * 緩衝領域はヒープに確保され、直接バッファのように解放を遅延させません。
+ * 整数値はビッグエンディアンで書き込みます。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+final class BlockWriter implements AutoCloseable {
+	private static final int SIZE = 0x10000;
+	private static final byte[] ZEROS = new byte[SIZE];
+	private final WritableByteChannel channel;
+	private final OutputStream stream;
+	private final ByteBuffer buffer;
+
+	/**
+	 * 指定された出力に書き込む緩衝領域を構築します。
+	 *
+	 *
+	 * @param stream 出力
+	 */
+	public BlockWriter(OutputStream stream) {
+		this.stream = stream;
+		this.channel = open(stream);
+		this.buffer = ByteBuffer.allocate(SIZE);
+	}
+
+	/**
+	 * 指定された出力に書き込むチャネルを返します。
+	 * ファイルの場合は、複製を介さずに直接書き込みます。
+	 *
+	 *
+	 * @param stream 出力
+	 *
+	 * @return チャネル
+	 */
+	private static final WritableByteChannel open(OutputStream stream) {
+		if(stream instanceof FileOutputStream) {
+			return ((FileOutputStream) stream).getChannel();
+		} else return Channels.newChannel(stream);
+	}
+
+	/**
+	 * 出力がファイルの場合はそのチャネルを返します。
+	 *
+	 *
+	 * @return 移動可能なチャネル またはnull
+	 */
+	public final FileChannel seeker() {
+		if(channel instanceof FileChannel) return (FileChannel) channel;
+		else return null;
+	}
+
+	/**
+	 * 蓄積されたバイト列を書き込んで出力を閉じます。
+	 *
+	 *
+	 * @throws IOException 書き込みまたは解放に失敗した場合
+	 */
+	@Override
+	public final void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * 蓄積されたバイト列を出力に書き込みます。
+	 *
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void flush() throws IOException {
+		buffer.flip();
+		while(buffer.hasRemaining()) channel.write(buffer);
+		buffer.clear();
+		stream.flush();
+	}
+
+	/**
+	 * 指定されたバイト数を書き込む余裕を確保します。
+	 *
+	 *
+	 * @param size バイト数
+	 *
+	 * @return 緩衝領域
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	private final ByteBuffer reserve(int size) throws IOException {
+		if(buffer.remaining() < size) flush();
+		return buffer;
+	}
+
+	/**
+	 * 指定された値を1バイトで書き込みます。
+	 *
+	 *
+	 * @param v 値
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void writeByte(int v) throws IOException {
+		reserve(Byte.BYTES).put((byte) v);
+	}
+
+	/**
+	 * 指定された値を2バイトで書き込みます。
+	 *
+	 *
+	 * @param v 値
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void writeShort(int v) throws IOException {
+		reserve(Short.BYTES).putShort((short) v);
+	}
+
+	/**
+	 * 指定された値を4バイトで書き込みます。
+	 *
+	 *
+	 * @param v 値
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void writeInt(int v) throws IOException {
+		reserve(Integer.BYTES).putInt(v);
+	}
+
+	/**
+	 * 指定された値を8バイトで書き込みます。
+	 *
+	 *
+	 * @param v 値
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void writeLong(long v) throws IOException {
+		reserve(Long.BYTES).putLong(v);
+	}
+
+	/**
+	 * 指定されたバイト列を書き込みます。
+	 *
+	 *
+	 * @param bytes バイト列
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void write(byte[] bytes) throws IOException {
+		int off = 0;
+		while(off < bytes.length) {
+			final int len = Math.min(bytes.length - off, SIZE);
+			reserve(len).put(bytes, off, len);
+			off += len;
+		}
+	}
+
+	/**
+	 * 指定されたバッファの残りのバイト列を書き込みます。
+	 *
+	 *
+	 * @param bytes バッファ
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void write(ByteBuffer bytes) throws IOException {
+		while(bytes.hasRemaining()) {
+			final int len = Math.min(bytes.remaining(), SIZE);
+			final int end = bytes.position() + len;
+			final var part = bytes.duplicate().limit(end);
+			reserve(len).put(part);
+			bytes.position(end);
+		}
+	}
+
+	/**
+	 * 指定されたバイト数の零を書き込みます。
+	 *
+	 *
+	 * @param size バイト数
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public final void zero(int size) throws IOException {
+		while(size > 0) {
+			final int len = Math.min(size, SIZE);
+			reserve(len).put(ZEROS, 0, len);
+			size -= len;
+		}
+	}
+}
@@ -8,6 +8,7 @@ package gaas.table;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import qxsl.draft.Qxsl;
@@ -28,8 +29,13 @@ import gaas.table.CBinFactory.ModeEnum;
  * @since 2017/06/12
  */
 public final class CBinDecoder extends TableDecoder {
+	static final int HEAD = 0x10;
+	static final int SIZE = 0xA8;
+	static final int STEP = 0xAA;
 	private final DataInputStream source;
+	private final ByteBuffer buffer;
 	private final FieldManager fields;
+	private final SjisCodec codec;
 	private final CBinFactory format;
 	private DateTime cDTime;
 	private int count;
@@ -43,7 +49,9 @@ public final class CBinDecoder extends TableDecoder {
 	 */
 	public CBinDecoder(InputStream stream, CBinFactory format) {
 		this.source = new DataInputStream(stream);
-		this.fields = new FieldManager();
+		this.buffer = ByteBuffer.allocate(SIZE);
+		this.fields = FieldManager.FIELDS;
+		this.codec = new SjisCodec();
 		this.cDTime = new DateTime();
 		this.format = format;
 	}
@@ -69,17 +77,43 @@ public final class CBinDecoder extends TableDecoder {
 	 */
 	@Override
 	public final void head() throws IOException {
-		final var QSO = "CQsoData".getBytes();
-		final var hdr = source.readShort();
+		source.readFully(buffer.array(), 0, HEAD);
+		head(buffer);
+	}
+
+	/**
+	 * 指定されたバッファの冒頭から交信記録の冒頭を読み取ります。
+	 *
+	 *
+	 * @param buf 交信記録の冒頭を含むバッファ
+	 *
+	 * @throws IOException 書式が異なる場合
+	 *
+	 * @since 2026/10/17
+	 */
+	final void head(ByteBuffer buf) throws IOException {
+		final var hdr = buf.getShort(0);
 		final var rdh = Short.reverseBytes(hdr);
 		this.count = Short.toUnsignedInt(rdh);
-		source.skipBytes(6);
 		var trial = new byte[8];
-		source.readFully(trial);
-		if(Arrays.equals(trial, QSO)) return;
+		buf.duplicate().position(8).get(trial);
+		if(Arrays.equals(trial, CBinFactory.QSO.getBytes())) return;
 		throw new IOException("unsupported");
 	}
 
+	/**
+	 * 冒頭に記録された交信記録の件数のうち未読の件数を返します。
+	 *
+	 *
+	 * @return 交信記録の件数
+	 *
+	 * @since 2026/10/17
+	 */
+	final int count() {
+		return count;
+	}
+
+
 	/**
 	 * ストリームの交信記録の末尾を読み取ります。
 	 *
@@ -103,21 +137,40 @@ public final class CBinDecoder extends TableDecoder {
 	 */
 	@Override
 	public final Item next() throws IOException {
-		final var item = new Item();
-		call(item);
-		sent(item);
-		rcvd(item);
-		mode(item);
-		source.read();
-		band(item);
-		source.skipBytes(5);
-		time(item);
-		name(item);
-		source.skipBytes(2);
-		note(item);
-		source.skipBytes(2);
+		source.readFully(buffer.array());
+		source.skipBytes(STEP - SIZE);
 		this.count--;
-		return item;
+		return next(buffer, 0);
+	}
+
+	/**
+	 * 指定されたバッファの指定された位置の交信記録を読み取ります。
+	 *
+	 *
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
+	 *
+	 * @return 読み取った交信記録
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	final Item next(ByteBuffer buf, int at) throws IOException {
+		final var item = new Item();
+		try {
+			call(item, buf, at);
+			sent(item, buf, at);
+			rcvd(item, buf, at);
+			mode(item, buf, at);
+			band(item, buf, at);
+			time(item, buf, at);
+			name(item, buf, at);
+			note(item, buf, at);
+			return item;
+		} catch (RuntimeException ex) {
+			throw new IOException(ex);
+		}
 	}
 
 	/**
@@ -136,21 +189,17 @@ public final class CBinDecoder extends TableDecoder {
 	}
 
 	/**
-	 * 指定された長さまでの文字列を読み取ります。
+	 * 指定された位置の長さまでの終端付きの文字列を読み取ります。
 	 *
 	 *
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 文字列の位置
 	 * @param max 最大文字数
 	 *
 	 * @return 読み込んだ文字列
-	 *
-	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final String read(int max) throws IOException {
-		final var buff = new byte[max];
-		source.readFully(buff);
-		final var raw = new String(buff, "SJIS");
-		final int len = raw.indexOf(0);
-		return raw.substring(0, Math.max(0, len));
+	private final String read(ByteBuffer buf, int at, int max) {
+		return codec.decodeNul(buf, at, max);
 	}
 
 	/**
@@ -158,11 +207,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void time(Item item) throws IOException {
-		item.set(cDTime.decode(source.readLong()));
+	private final void time(Item item, ByteBuffer buf, int at) {
+		item.set(cDTime.decode(buf.getLong(at + 0x58)));
 	}
 
 	/**
@@ -170,11 +219,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void call(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.CALL).field(read(20)));
+	private final void call(Item item, ByteBuffer buf, int at) {
+		item.set(fields.cache(Qxsl.CALL).field(read(buf, at, 20)));
 	}
 
 	/**
@@ -182,11 +231,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void sent(Item item) throws IOException {
-		item.getSent().set(fields.cache(Qxsl.CODE).field(read(30)));
+	private final void sent(Item item, ByteBuffer buf, int at) {
+		item.getSent().set(fields.cache(Qxsl.CODE).field(read(buf, at + 0x14, 30)));
 	}
 
 	/**
@@ -194,11 +243,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void rcvd(Item item) throws IOException {
-		item.getRcvd().set(fields.cache(Qxsl.CODE).field(read(30)));
+	private final void rcvd(Item item, ByteBuffer buf, int at) {
+		item.getRcvd().set(fields.cache(Qxsl.CODE).field(read(buf, at + 0x32, 30)));
 	}
 
 	/**
@@ -206,11 +255,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void mode(Item item) throws IOException {
-		item.set(ModeEnum.forIndex(source.read()).toMode());
+	private final void mode(Item item, ByteBuffer buf, int at) {
+		item.set(ModeEnum.forIndex(buf.get(at + 0x50)).toMode());
 	}
 
 	/**
@@ -218,11 +267,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void band(Item item) throws IOException {
-		item.set(BandEnum.forIndex(source.read()).toBand());
+	private final void band(Item item, ByteBuffer buf, int at) {
+		item.set(BandEnum.forIndex(buf.get(at + 0x52)).toBand());
 	}
 
 	/**
@@ -230,11 +279,11 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void name(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.NAME).field(read(20)));
+	private final void name(Item item, ByteBuffer buf, int at) {
+		item.set(fields.cache(Qxsl.NAME).field(read(buf, at + 0x60, 20)));
 	}
 
 	/**
@@ -242,10 +291,10 @@ public final class CBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
-	 *
-	 * @throws IOException 読み取りに失敗した場合
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 */
-	private final void note(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.NOTE).field(read(50)));
+	private final void note(Item item, ByteBuffer buf, int at) {
+		item.set(fields.cache(Qxsl.NOTE).field(read(buf, at + 0x76, 50)));
 	}
 }
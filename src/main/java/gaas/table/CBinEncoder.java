@@ -5,9 +5,10 @@
 *******************************************************************************/
 package gaas.table;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -26,6 +27,7 @@ import gaas.table.CBinFactory.ModeEnum;
 
 /**
  * 交信記録をLG8書式に直列化するエンコーダです。
+ * 交信記録は緩衝領域に蓄積され、末尾の書き込み時に一括で出力されます。
  *
  *
  * @author 無線部開発班
@@ -33,11 +35,14 @@ import gaas.table.CBinFactory.ModeEnum;
  * @since 2019/05/04
  */
 public final class CBinEncoder extends TableEncoder {
-	private final DataOutputStream target;
+	private final BlockWriter target;
+	private final SjisCodec codec;
 	private final CBinFactory format;
+	private final FileChannel seeker;
 	private final DateTime cDTime;
 	private final Set<Name> names;
 	private Item last;
+	private long start;
 	private int count;
 
 	/**
@@ -49,7 +54,9 @@ public final class CBinEncoder extends TableEncoder {
 	 */
 	public CBinEncoder(OutputStream stream, CBinFactory format) {
 		this.names = new LinkedHashSet<Name>();
-		this.target = new DataOutputStream(stream);
+		this.target = new BlockWriter(stream);
+		this.codec = new SjisCodec();
+		this.seeker = target.seeker();
 		this.cDTime = new DateTime();
 		this.format = format;
 	}
@@ -75,11 +82,16 @@ public final class CBinEncoder extends TableEncoder {
 	 */
 	@Override
 	public final void head() throws IOException {
+		if(count() < 0 && seeker == null) {
+			final var msg = "item count required for unseekable output";
+			throw new IOException(msg);
+		}
+		if(seeker != null) this.start = seeker.position();
 		target.writeShort(Short.reverseBytes((short) count()));
 		target.writeShort(0xFFFF);
 		target.writeShort(0x0000);
 		target.writeShort(0x0800);
-		target.writeBytes("CQsoData");
+		target.write(codec.encode(CBinFactory.QSO, CBinFactory.QSO.length()));
 	}
 
 	/**
@@ -94,6 +106,22 @@ public final class CBinEncoder extends TableEncoder {
 	public final void foot() throws IOException {
 		confs();
 		names();
+		target.flush();
+		if(count() < 0) patch();
+	}
+
+	/**
+	 * 書き込んだ交信記録の件数を冒頭に遡って書き込みます。
+	 *
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final void patch() throws IOException {
+		final var buf = ByteBuffer.allocate(2);
+		buf.putShort(Short.reverseBytes((short) count)).flip();
+		seeker.write(buf, start);
 	}
 
 	/**
@@ -166,7 +194,7 @@ public final class CBinEncoder extends TableEncoder {
 		write(50, item.get(Qxsl.NOTE));
 		names.add((Name) item.get(Qxsl.NAME));
 		this.last = item;
-		target.flush();
+		this.count++;
 	}
 
 	/**
@@ -180,9 +208,10 @@ public final class CBinEncoder extends TableEncoder {
 	 */
 	private void write(int n, Field f) throws IOException {
 		final var value = f != null? f.truncate(n - 1): "";
-		final var bytes = value.getBytes("SJIS");
+		final var bytes = codec.encode(value, n - 1);
+		final int size = bytes.remaining();
 		target.write(bytes);
-		target.write(new byte[n - bytes.length]);
+		target.zero(n - size);
 	}
 
 	/**
@@ -224,7 +253,7 @@ public final class CBinEncoder extends TableEncoder {
 	private final void names() throws IOException {
 		final var extracted = names.stream().limit(30);
 		for(var name: extracted.toArray(Name[]::new)) write(20, name);
-		target.write(new byte[Math.max(0, (30 - names.size()) * 20)]);
+		target.zero(Math.max(0, (30 - names.size()) * 20));
 	}
 
 	/**
@@ -5,10 +5,13 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 
 import qxsl.draft.Band;
 import qxsl.draft.Mode;
@@ -29,6 +32,14 @@ import static java.time.temporal.ChronoUnit.SECONDS;
  * @since 2017/06/12
  */
 public final class CBinFactory extends BasicFactory {
+	/**
+	 * LG8書式のヘッダに埋め込まれる識別子です。
+	 *
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final String QSO = "CQsoData";
+
 	/**
 	 * 書式を構築します。
 	 */
@@ -62,6 +73,54 @@ public final class CBinFactory extends BasicFactory {
 		return new CBinEncoder(os, this);
 	}
 
+	/**
+	 * 指定されたファイルを写像して交信記録を任意の順序で読み取ります。
+	 *
+	 *
+	 * @param path 交信記録のファイル
+	 *
+	 * @return 交信記録のリスト
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final CBinRecords records(Path path) throws IOException {
+		return new CBinRecords(path, this);
+	}
+
+	/**
+	 * 文字列はこの書式に該当しないので零を返します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 零
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		return 0;
+	}
+
+	/**
+	 * 指定されたバイト列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭のバイト列
+	 *
+	 * @return ヘッダの識別子が一致する場合は3
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(byte[] head) {
+		if(head.length < 16) return 0;
+		final var magic = Arrays.copyOfRange(head, 8, 16);
+		return Arrays.equals(magic, QSO.getBytes())? 3: 0;
+	}
+
 	/**
 	 * LG8書式の周波数帯の列挙型です。
 	 *
@@ -95,6 +154,7 @@ public final class CBinFactory extends BasicFactory {
 		G248 (248000000),
 		K136 (      136);
 
+		private static final BandEnum[] VALUES = values();
 		private final Band band;
 
 		/**
@@ -104,7 +164,7 @@ public final class CBinFactory extends BasicFactory {
 		 * @param kHz 周波数帯
 		 */
 		private BandEnum(int kHz) {
-			this.band = new Band(kHz);
+			this.band = Band.of(kHz);
 		}
 
 		@Override
@@ -129,7 +189,7 @@ public final class CBinFactory extends BasicFactory {
 		 * @return 対応する列挙子があれば返す
 		 */
 		public static BandEnum valueOf(Band band) {
-			for(var v: values()) if(v.band.equals(band)) return v;
+			for(var v: VALUES) if(v.band.equals(band)) return v;
 			return null;
 		}
 
@@ -141,8 +201,8 @@ public final class CBinFactory extends BasicFactory {
 		 * @return 対応する列挙子があれば返す
 		 */
 		public static BandEnum forIndex(int band) {
-			for(var v: values()) if(v.ordinal() == band) return v;
-			return null;
+			if(band < 0 || band >= VALUES.length) return null;
+			return VALUES[band];
 		}
 	}
 
@@ -253,7 +313,7 @@ public final class CBinFactory extends BasicFactory {
 		 */
 		public final Time decode(long binary) {
 			final var b = Long.reverseBytes(binary);
-			return new Time(epoch.plus(b, SECONDS));
+			return new Time(b, 0, UTC);
 		}
 
 		/**
@@ -264,8 +324,8 @@ public final class CBinFactory extends BasicFactory {
 		 * @return 時刻のビット列
 		 */
 		public final long encode(Time field) {
-			final var f = field.value();
-			final var v = epoch.until(f, SECONDS);
+			final var f = field.toInstant();
+			final var v = epoch.toInstant().until(f, SECONDS);
 			return Long.reverseBytes(v);
 		}
 	}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.table;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import qxsl.model.Item;
+
+import static gaas.table.CBinDecoder.HEAD;
+import static gaas.table.CBinDecoder.SIZE;
+import static gaas.table.CBinDecoder.STEP;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * LG8書式のファイルを主記憶に写像して交信記録を任意の順序で読み取ります。
+ * 交信記録は要求に応じて読み取るため、必要な範囲のみを走査できます。
+ * このクラスはスレッドセーフではありません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class CBinRecords extends AbstractList<Item>
+	implements RandomAccess, AutoCloseable {
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private final CBinDecoder decoder;
+	private final int size;
+
+	/**
+	 * 指定されたファイルを読み込むリストを構築します。
+	 *
+	 *
+	 * @param path ファイル
+	 * @param format 書式
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 */
+	public CBinRecords(Path path, CBinFactory format) throws IOException {
+		this.channel = FileChannel.open(path, READ);
+		try {
+			final long size = channel.size();
+			if(size > Integer.MAX_VALUE) throw new IOException("too large");
+			if(size < HEAD) throw new IOException("header not found");
+			this.buffer = channel.map(READ_ONLY, 0, size);
+			this.decoder = new CBinDecoder(InputStream.nullInputStream(), format);
+			this.decoder.head(buffer);
+			final int fit = (int) (size - HEAD + STEP - SIZE) / STEP;
+			this.size = Math.min(decoder.count(), fit);
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * ファイルを閉じて資源を解放します。
+	 *
+	 *
+	 * @throws IOException 解放に失敗した場合
+	 */
+	@Override
+	public final void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * ファイルに含まれる交信記録の件数を返します。
+	 *
+	 *
+	 * @return 交信記録の件数
+	 */
+	@Override
+	public final int size() {
+		return size;
+	}
+
+	/**
+	 * 指定された位置の交信記録を読み取ります。
+	 *
+	 *
+	 * @param index 交信記録の位置
+	 *
+	 * @return 読み取った交信記録
+	 *
+	 * @throws IndexOutOfBoundsException 範囲外の場合
+	 * @throws UncheckedIOException 読み取りに失敗した場合
+	 */
+	@Override
+	public final Item get(int index) {
+		Objects.checkIndex(index, size);
+		try {
+			return decoder.next(buffer, HEAD + STEP * index);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
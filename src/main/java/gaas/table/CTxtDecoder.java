@@ -7,14 +7,14 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import qxsl.draft.Qxsl;
-import qxsl.draft.Time;
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
 import qxsl.table.PrintDecoder;
+import qxsl.table.TimeParser;
+
+import static java.time.ZoneId.systemDefault;
 
 /**
  * CTESTWIN書式で直列化された交信記録をデコードします。
@@ -31,7 +31,8 @@ public final class CTxtDecoder extends PrintDecoder {
 	private static final int MODE = 4;
 	private static final int SENT = 5;
 	private static final int RCVD = 6;
-	private final DateTimeFormatter tstamp;
+	static final int[] COLUMNS = {0, 5, 16, 28, 36, 41, 54, 67};
+	private final TimeParser tstamp;
 	private final FieldManager fields;
 	private final CTxtFactory format;
 
@@ -45,8 +46,8 @@ public final class CTxtDecoder extends PrintDecoder {
 	public CTxtDecoder(Reader reader, CTxtFactory format) {
 		super(reader);
 		this.format = format;
-		this.fields = new FieldManager();
-		this.tstamp = format.getTimeDecoderOld();
+		this.fields = FieldManager.FIELDS;
+		this.tstamp = format.getTimeParserOld(systemDefault());
 	}
 
 	/**
@@ -92,7 +93,7 @@ public final class CTxtDecoder extends PrintDecoder {
 	@Override
 	public final Item next() throws IOException {
 		final var item = new Item();
-		final var vals = split(0, 5, 16, 28, 36, 41, 54, 67);
+		final var vals = split(COLUMNS);
 		try {
 			Integer.parseInt(vals[0]);
 			if(!vals[TIME].isEmpty()) time(item, vals[TIME]);
@@ -132,7 +133,7 @@ public final class CTxtDecoder extends PrintDecoder {
 	 * @param text 交信日時の文字列
 	 */
 	private final void time(Item item, String text) {
-		item.set(new Time(LocalDateTime.parse(text, tstamp)));
+		item.set(tstamp.parse(text));
 	}
 
 	/**
@@ -53,7 +53,8 @@ public final class CTxtEncoder extends PrintEncoder {
 	 */
 	@Override
 	public final void head() throws IOException {
-		print(String.format("Worked %4s stations", count()));
+		final var num = count() < 0? "": count();
+		print(String.format("Worked %4s stations", num));
 		println();
 		println();
 	}
@@ -21,6 +21,8 @@ import qxsl.table.TableEncoder;
  * @since 2013/07/02
  */
 public final class CTxtFactory extends PrintFactory {
+	private static final String NUM = "[+-]?\\d+";
+
 	/**
 	 * 書式を構築します。
 	 */
@@ -53,4 +55,36 @@ public final class CTxtFactory extends PrintFactory {
 	public final TableEncoder encoder(Writer writer) {
 		return new CTxtEncoder(writer, this);
 	}
+
+	/**
+	 * この書式は冒頭を除く各行に1件の交信記録を記録します。
+	 *
+	 *
+	 * @return 真
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final boolean splittable() {
+		return true;
+	}
+
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		final var line = sample(head, "Worked");
+		if(line != null && !fits(line, CTxtDecoder.COLUMNS)) return 0;
+		if(line != null && !line.substring(0, 4).strip().matches(NUM)) return 0;
+		if(head.stripLeading().startsWith("Worked")) return 3;
+		return line != null? 2: 1;
+	}
 }
@@ -7,14 +7,12 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 
 import qxsl.draft.Qxsl;
-import qxsl.draft.Time;
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
 import qxsl.table.PrintDecoder;
+import qxsl.table.TimeParser;
 
 import gaas.table.CqwwFactory.BandEnum;
 
@@ -37,7 +35,8 @@ public final class CqwwDecoder extends PrintDecoder {
 	private static final int CALL = 6;
 	private static final int RRST = 7;
 	private static final int RCVD = 8;
-	private final DateTimeFormatter tstamp;
+	static final int[] COLUMNS = {5, 11, 14, 30, 44, 48, 55, 69, 73, 80};
+	private final TimeParser tstamp;
 	private final FieldManager fields;
 	private final CqwwFactory format;
 
@@ -51,8 +50,8 @@ public final class CqwwDecoder extends PrintDecoder {
 	public CqwwDecoder(Reader reader, CqwwFactory format) {
 		super(reader);
 		this.format = format;
-		this.fields = new FieldManager();
-		this.tstamp = format.getTimeDecoder();
+		this.fields = FieldManager.FIELDS;
+		this.tstamp = format.getTimeParser(UTC);
 	}
 
 	/**
@@ -90,16 +89,16 @@ public final class CqwwDecoder extends PrintDecoder {
 	@Override
 	public final Item next() throws IOException {
 		final var item = new Item();
-		final var vals = split(5, 11, 14, 30, 44, 48, 55, 69, 73, 80);
+		final var vals = slice(COLUMNS);
 		try {
-			if(!vals[BAND].isEmpty()) band(item, vals[BAND]);
-			if(!vals[MODE].isEmpty()) mode(item, vals[MODE]);
-			if(!vals[TIME].isEmpty()) time(item, vals[TIME]);
-			if(!vals[SRST].isEmpty()) sRST(item, vals[SRST]);
-			if(!vals[SENT].isEmpty()) sent(item, vals[SENT]);
-			if(!vals[CALL].isEmpty()) call(item, vals[CALL]);
-			if(!vals[RRST].isEmpty()) rRST(item, vals[RRST]);
-			if(!vals[RCVD].isEmpty()) rcvd(item, vals[RCVD]);
+			if(vals[BAND].length() > 0) band(item, vals[BAND]);
+			if(vals[MODE].length() > 0) mode(item, vals[MODE]);
+			if(vals[TIME].length() > 0) time(item, vals[TIME]);
+			if(vals[SRST].length() > 0) sRST(item, vals[SRST]);
+			if(vals[SENT].length() > 0) sent(item, vals[SENT]);
+			if(vals[CALL].length() > 0) call(item, vals[CALL]);
+			if(vals[RRST].length() > 0) rRST(item, vals[RRST]);
+			if(vals[RCVD].length() > 0) rcvd(item, vals[RCVD]);
 			return item;
 		} catch (RuntimeException ex) {
 			throw new IOException(ex);
@@ -130,9 +129,8 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text 交信日時の文字列
 	 */
-	private final void time(Item item, String text) {
-		final var format = this.tstamp.withZone(UTC);
-		item.set(new Time(ZonedDateTime.parse(text, format)));
+	private final void time(Item item, CharSequence text) {
+		item.set(tstamp.parse(text));
 	}
 
 	/**
@@ -142,7 +140,7 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text コールサインの文字列
 	 */
-	private final void call(Item item, String text) {
+	private final void call(Item item, CharSequence text) {
 		item.set(fields.cache(Qxsl.CALL).field(text));
 	}
 
@@ -153,8 +151,8 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text 周波数帯の文字列
 	 */
-	private final void band(Item item, String text) {
-		item.set(BandEnum.value(text.trim()).toBand());
+	private final void band(Item item, CharSequence text) {
+		item.set(BandEnum.value(text).toBand());
 	}
 
 	/**
@@ -164,7 +162,7 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text 通信方式の文字列
 	 */
-	private final void mode(Item item, String text) {
+	private final void mode(Item item, CharSequence text) {
 		item.set(fields.cache(Qxsl.MODE).field(text));
 	}
 
@@ -175,7 +173,7 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text レポートの文字列
 	 */
-	private final void sRST(Item item, String text) {
+	private final void sRST(Item item, CharSequence text) {
 		item.getSent().set(fields.cache(Qxsl.RSTQ).field(text));
 	}
 
@@ -186,7 +184,7 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text ナンバーの文字列
 	 */
-	private final void sent(Item item, String text) {
+	private final void sent(Item item, CharSequence text) {
 		item.getSent().set(fields.cache(Qxsl.CODE).field(text));
 	}
 
@@ -197,7 +195,7 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text レポートの文字列
 	 */
-	private final void rRST(Item item, String text) {
+	private final void rRST(Item item, CharSequence text) {
 		item.getRcvd().set(fields.cache(Qxsl.RSTQ).field(text));
 	}
 
@@ -208,7 +206,7 @@ public final class CqwwDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text ナンバーの文字列
 	 */
-	private final void rcvd(Item item, String text) {
+	private final void rcvd(Item item, CharSequence text) {
 		item.getRcvd().set(fields.cache(Qxsl.CODE).field(text));
 	}
 }
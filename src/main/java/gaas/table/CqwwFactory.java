@@ -57,6 +57,37 @@ public final class CqwwFactory extends PrintFactory {
 		return new CqwwEncoder(writer, this);
 	}
 
+	/**
+	 * この書式は冒頭を除く各行に1件の交信記録を記録します。
+	 *
+	 *
+	 * @return 真
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final boolean splittable() {
+		return true;
+	}
+
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		final var line = sample(head);
+		if(line != null && !fits(line, CqwwDecoder.COLUMNS)) return 0;
+		if(line != null && line.startsWith(QSO)) return 3;
+		return 1;
+	}
+
 	/**
 	 * Cabrillo書式の周波数帯の列挙型です。
 	 *
@@ -90,6 +121,7 @@ public final class CqwwFactory extends PrintFactory {
 		G134 ( "134G", 134_000_000),
 		G241 ( "241G", 241_000_000);
 
+		private static final BandEnum[] VALUES = values();
 		private final Band band;
 		private final String text;
 
@@ -102,7 +134,7 @@ public final class CqwwFactory extends PrintFactory {
 		 */
 		private BandEnum(String text, int band) {
 			this.text = text;
-			this.band = new Band(band);
+			this.band = Band.of(band);
 		}
 
 		@Override
@@ -127,7 +159,7 @@ public final class CqwwFactory extends PrintFactory {
 		 * @return 対応する列挙子があれば返す
 		 */
 		public static BandEnum valueOf(Band band) {
-			for(var b: values()) if(b.band.equals(band)) return b;
+			for(var b: VALUES) if(b.band.equals(band)) return b;
 			return null;
 		}
 
@@ -138,8 +170,8 @@ public final class CqwwFactory extends PrintFactory {
 		 *
 		 * @return 対応する列挙子があれば返す
 		 */
-		public static BandEnum value(String text) {
-			for(var b: values()) if(b.text.equals(text)) return b;
+		public static BandEnum value(CharSequence text) {
+			for(var b: values()) if(b.text.contentEquals(text)) return b;
 			return null;
 		}
 	}
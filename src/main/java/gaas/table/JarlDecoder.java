@@ -7,14 +7,14 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import qxsl.draft.Qxsl;
-import qxsl.draft.Time;
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
 import qxsl.table.PrintDecoder;
+import qxsl.table.TimeParser;
+
+import static java.time.ZoneId.systemDefault;
 
 /**
  * JARL書式で直列化された交信記録をデコードします。
@@ -34,7 +34,7 @@ public final class JarlDecoder extends PrintDecoder {
 	private static final int RRST = 7;
 	private static final int RCVD = 8;
 	private static final int MUL1 = 9;
-	private final DateTimeFormatter tstamp;
+	private final TimeParser tstamp;
 	private final FieldManager fields;
 	private final JarlFactory format;
 
@@ -48,8 +48,8 @@ public final class JarlDecoder extends PrintDecoder {
 	public JarlDecoder(Reader reader, JarlFactory format) {
 		super(reader);
 		this.format = format;
-		this.fields = new FieldManager();
-		this.tstamp = format.getTimeDecoder();
+		this.fields = FieldManager.FIELDS;
+		this.tstamp = format.getTimeParser(systemDefault());
 	}
 
 	/**
@@ -139,7 +139,7 @@ public final class JarlDecoder extends PrintDecoder {
 	 * @param text 交信日時の文字列
 	 */
 	private final void time(Item item, String text) {
-		item.set(new Time(LocalDateTime.parse(text, tstamp)));
+		item.set(tstamp.parse(text));
 	}
 
 	/**
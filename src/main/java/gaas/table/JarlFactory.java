@@ -21,6 +21,8 @@ import qxsl.table.TableEncoder;
  * @since 2014/06/03
  */
 public final class JarlFactory extends PrintFactory {
+	private static final String DATE = "\\d{4}-\\d\\d-\\d\\d\\s+\\d\\d:\\d\\d(\\s.*)?";
+
 	/**
 	 * 書式を構築します。
 	 */
@@ -53,4 +55,35 @@ public final class JarlFactory extends PrintFactory {
 	public final TableEncoder encoder(Writer writer) {
 		return new JarlEncoder(writer, this);
 	}
+
+	/**
+	 * この書式は冒頭を除く各行に1件の交信記録を記録します。
+	 *
+	 *
+	 * @return 真
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final boolean splittable() {
+		return true;
+	}
+
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		final var line = sample(head, "DATE", "----");
+		if(line != null && !line.matches(DATE)) return 0;
+		if(head.stripLeading().startsWith("DATE")) return 3;
+		return line != null? 2: 1;
+	}
 }
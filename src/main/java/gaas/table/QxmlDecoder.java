@@ -7,15 +7,13 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import javax.xml.namespace.QName;
-import javax.xml.stream.EventFilter;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.EndElement;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
@@ -26,6 +24,7 @@ import static gaas.table.QxmlFactory.ITEM;
 import static gaas.table.QxmlFactory.LIST;
 import static gaas.table.QxmlFactory.RCVD;
 import static gaas.table.QxmlFactory.SENT;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 /**
  * QXML書式で直列化された交信記録をデコードします。
@@ -38,8 +37,10 @@ import static gaas.table.QxmlFactory.SENT;
 public final class QxmlDecoder extends TableDecoder {
 	private final FieldManager fields;
 	private final QxmlFactory format;
+	private final Validation level;
 	private final Reader source;
-	private XMLEventReader reader;
+	private final Map<String, Map<String, QName>> names;
+	private XMLStreamReader reader;
 
 	/**
 	 * 指定された入力を読み込むデコーダを構築します。
@@ -47,11 +48,14 @@ public final class QxmlDecoder extends TableDecoder {
 	 *
 	 * @param reader 入力
 	 * @param format 書式
+	 * @param level 検証の水準
 	 */
-	public QxmlDecoder(Reader reader, QxmlFactory format) {
-		this.fields = new FieldManager();
+	public QxmlDecoder(Reader reader, QxmlFactory format, Validation level) {
+		this.fields = FieldManager.FIELDS;
 		this.format = format;
+		this.names = new HashMap<>();
 		this.source = reader;
+		this.level = level;
 	}
 
 	/**
@@ -82,7 +86,9 @@ public final class QxmlDecoder extends TableDecoder {
 	public final void head() throws IOException {
 		this.reader = reader();
 		try {
+			tag();
 			start(LIST);
+			tag();
 		} catch (XMLStreamException ex) {
 			throw new IOException(ex);
 		}
@@ -100,6 +106,7 @@ public final class QxmlDecoder extends TableDecoder {
 	public final void foot() throws IOException {
 		try {
 			close(LIST);
+			if(level != Validation.NONE) drain();
 		} catch (XMLStreamException ex) {
 			throw new IOException(ex);
 		}
@@ -136,11 +143,7 @@ public final class QxmlDecoder extends TableDecoder {
 	 */
 	@Override
 	public final boolean hasNext() throws IOException {
-		try {
-			return ahead(ITEM);
-		} catch (XMLStreamException ex) {
-			throw new IOException(ex);
-		}
+		return ahead(ITEM);
 	}
 
 	/**
@@ -164,113 +167,179 @@ public final class QxmlDecoder extends TableDecoder {
 	}
 
 	/**
-	 * 文字列を読み飛ばすフィルタです。
+	 * 文字列を読み飛ばさずに検証するリーダを返します。
+	 * 文字列は後続のタグの読み取り時に読み飛ばします。
 	 *
 	 *
-	 * @author 無線部開発班
+	 * @return リーダ
+	 *
+	 * @throws IOException リーダの構築に失敗した場合
 	 *
 	 * @since 2020/09/05
 	 */
-	private static final class Skip implements EventFilter {
-		@Override
-		public boolean accept(XMLEvent e) {
-			return !e.isCharacters();
+	private final XMLStreamReader reader() throws IOException {
+		try {
+			final var factor = XMLInputFactory.newInstance();
+			final var reader = factor.createXMLStreamReader(this.source);
+			if(level == Validation.FULL) return format.valid(reader);
+			return reader;
+		} catch (XMLStreamException ex) {
+			throw new IOException(ex);
 		}
 	}
 
 	/**
-	 * 文字列を読み飛ばすフィルタを適用したリーダを返します。
+	 * 文書の末尾まで読み取って文書の全体を検証します。
 	 *
 	 *
-	 * @return リーダ
+	 * @throws XMLStreamException 読み取りまたは検証に失敗した場合
 	 *
-	 * @throws IOException リーダの構築に失敗した場合
+	 * @since 2026/10/17
+	 */
+	private final void drain() throws XMLStreamException {
+		while(reader.hasNext()) reader.next();
+	}
+
+	/**
+	 * 文字列と注釈を読み飛ばして次の開始または終了タグに進みます。
+	 * 文書の末尾に到達した場合は、文書の終了の位置で停止します。
 	 *
-	 * @since 2020/09/05
+	 *
+	 * @throws XMLStreamException 要素の読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
 	 */
-	private final XMLEventReader reader() throws IOException {
-		try {
-			final var string = format.valid(this.source);
-			final var factor = XMLInputFactory.newInstance();
-			final var reader = factor.createXMLEventReader(string);
-			return factor.createFilteredReader(reader, new Skip());
-		} catch (XMLStreamException ex) {
-			throw new IOException(ex);
+	private final void tag() throws XMLStreamException {
+		while(reader.hasNext()) switch(reader.next()) {
+			case START_ELEMENT:
+			case END_ELEMENT: return;
 		}
 	}
 
 	/**
-	 * 次のタグが指定された名前の要素の開始であるかを確認します。
+	 * 現在のタグが指定された名前の要素であるかを確認します。
+	 *
+	 *
+	 * @param name 要素の名前
+	 *
+	 * @return 指定された要素の場合に真
+	 *
+	 * @since 2026/10/17
+	 */
+	private final boolean named(QName name) {
+		final var uri = Objects.toString(reader.getNamespaceURI(), "");
+		if(!name.getLocalPart().equals(reader.getLocalName())) return false;
+		return name.getNamespaceURI().equals(uri);
+	}
+
+	/**
+	 * 現在のタグが指定された名前の要素の開始であるかを確認します。
 	 *
 	 *
 	 * @param name 開始する要素の名前
 	 *
 	 * @return 指定された要素が見つかった場合に真
-	 *
-	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
-	private boolean ahead(QName name) throws XMLStreamException {
-		if(!reader.peek().isStartElement()) return false;
-		return reader.peek().asStartElement().getName().equals(name);
+	private boolean ahead(QName name) {
+		return reader.isStartElement() && named(name);
 	}
 
 	/**
-	 * 次のタグが指定された名前の要素の開始タグであるかを確認します。
+	 * 現在のタグが指定された名前の要素の開始タグであるかを確認します。
 	 *
 	 *
 	 * @param name 開始する要素の名前
 	 *
-	 * @return 見つかった要素
+	 * @return 見つかった要素の名前
 	 *
 	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
-	private StartElement start(QName name) throws XMLStreamException {
-		final var start = reader.nextTag().asStartElement();
-		if(start.getName().equals(name)) return start;
-		final var msg = "<%s> required but <%s> found";
-		throw new XMLStreamException(String.format(msg, name, start));
+	private QName start(QName name) throws XMLStreamException {
+		if(ahead(name)) return name;
+		final var msg = "<%s> required but %s found";
+		throw new XMLStreamException(String.format(msg, name, found()));
 	}
 
 	/**
-	 * 次のタグが指定された名前の要素の終了タグであるかを確認します。
+	 * 現在のタグが指定された名前の要素の終了タグであるかを確認し、
+	 * 次のタグに進みます。
 	 *
 	 *
 	 * @param name 終了する要素の名前
 	 *
-	 * @return 見つかった要素
-	 *
 	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
-	private EndElement close(QName name) throws XMLStreamException {
-		final var close = reader.nextTag().asEndElement();
-		if(close.getName().equals(name)) return close;
-		final var msg = "</%s> required but </%s> found";
-		throw new XMLStreamException(String.format(msg, name, close));
+	private void close(QName name) throws XMLStreamException {
+		if(reader.isEndElement() && named(name)) {
+			tag();
+			return;
+		}
+		final var msg = "</%s> required but %s found";
+		throw new XMLStreamException(String.format(msg, name, found()));
 	}
 
 	/**
-	 * 要素の開始イベントから属性を読み込んで交信記録に設定します。
+	 * 現在のタグを例外の通知に適した文字列に変換します。
+	 *
+	 *
+	 * @return タグの文字列表現
+	 *
+	 * @since 2026/10/17
+	 */
+	private final String found() {
+		if(reader.isStartElement()) return "<".concat(reader.getLocalName()).concat(">");
+		if(reader.isEndElement()) return "</".concat(reader.getLocalName()).concat(">");
+		return String.format("event %d", reader.getEventType());
+	}
+
+	/**
+	 * 現在の開始タグから属性を番号順に読み込んで交信記録に設定し、
+	 * 次のタグに進みます。
 	 *
 	 *
 	 * @param tuple 属性を設定する要素
-	 * @param start 開始する要素
+	 * @param name 開始した要素の名前
 	 *
 	 * @return 直後に終了すべき要素の名前
+	 *
+	 * @throws XMLStreamException 要素の読み取りに失敗した場合
 	 */
-	private final QName fields(Tuple tuple, StartElement start) {
-		final var attrs = start.getAttributes();
-		while(attrs.hasNext()) field(tuple, attrs.next());
-		return start.getName();
+	private final QName fields(Tuple tuple, QName name) throws XMLStreamException {
+		for(int i = 0; i < reader.getAttributeCount(); i++) field(tuple, i);
+		tag();
+		return name;
 	}
 
 	/**
-	 * 指定された属性値を指定された要素に設定します。
+	 * 指定された番号の属性値を指定された要素に設定します。
 	 *
 	 *
 	 * @param tuple 属性を設定する要素
-	 * @param field 属性
+	 * @param index 属性の番号
+	 */
+	private final void field(Tuple tuple, int index) {
+		final var val = reader.getAttributeValue(index);
+		tuple.set(fields.cache(name(index)).field(val));
+	}
+
+	/**
+	 * 指定された番号の属性の名前を文書内で共有する名前に変換します。
+	 *
+	 *
+	 * @param index 属性の番号
+	 *
+	 * @return 属性の名前
+	 *
+	 * @since 2026/10/17
 	 */
-	private final void field(Tuple tuple, Attribute field) {
-		tuple.set(fields.cache(field.getName()).field(field.getValue()));
+	private final QName name(int index) {
+		final var uri = Objects.toString(reader.getAttributeNamespace(index), "");
+		final var key = reader.getAttributeLocalName(index);
+		final var space = names.computeIfAbsent(uri, u -> new HashMap<>());
+		final var name = space.get(key);
+		if(name != null) return name;
+		final var pref = Objects.toString(reader.getAttributePrefix(index), "");
+		space.put(key, new QName(uri, key, pref));
+		return space.get(key);
 	}
 }
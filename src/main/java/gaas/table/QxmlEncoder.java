@@ -48,7 +48,7 @@ public final class QxmlEncoder extends TableEncoder {
 	 * @param format 書式
 	 */
 	public QxmlEncoder(Writer writer, QxmlFactory format) {
-		this.fields = new FieldManager();
+		this.fields = FieldManager.FIELDS;
 		this.spaces = new HashSet<>();
 		this.format = format;
 		this.target = writer;
@@ -5,19 +5,16 @@
 *******************************************************************************/
 package gaas.table;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 import java.io.Writer;
-import java.util.stream.Collectors;
 import javax.xml.namespace.QName;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.xml.sax.SAXException;
 
+import gaas.utils.SchemaPool;
+
 import qxsl.table.PrintFactory;
 import qxsl.table.TableDecoder;
 import qxsl.table.TableEncoder;
@@ -38,7 +35,7 @@ public final class QxmlFactory extends PrintFactory {
 	public static final QName SENT = new QName("sent");
 	public static final String QXSD = "qxml.xsd";
 	public static final String LINE = "\n";
-	private final Schema schema;
+	private final SchemaPool schema;
 
 	/**
 	 * 構文の定義を読み取って書式を構築します。
@@ -61,7 +58,22 @@ public final class QxmlFactory extends PrintFactory {
 	 */
 	@Override
 	public final TableDecoder decoder(Reader reader) {
-		return new QxmlDecoder(reader, this);
+		return new QxmlDecoder(reader, this, Validation.FULL);
+	}
+
+	/**
+	 * 指定された入力を指定された水準で検証しながら読み込むデコーダを返します。
+	 *
+	 *
+	 * @param reader 交信記録を読み込む入力
+	 * @param level 検証の水準
+	 *
+	 * @return デコーダ
+	 *
+	 * @since 2026/10/17
+	 */
+	public final TableDecoder decoder(Reader reader, Validation level) {
+		return new QxmlDecoder(reader, this, level);
 	}
 
 	/**
@@ -79,6 +91,7 @@ public final class QxmlFactory extends PrintFactory {
 
 	/**
 	 * 書式の構文の定義をリソースから読み取ります。
+	 * 構文の定義はプロセス全体で共有されます。
 	 *
 	 *
 	 * @return スキーマ
@@ -87,31 +100,38 @@ public final class QxmlFactory extends PrintFactory {
 	 *
 	 * @since 2020/09/05
 	 */
-	private final Schema loadSchema() throws SAXException {
-		final var fact = SchemaFactory.newDefaultInstance();
-		return fact.newSchema(getClass().getResource(QXSD));
+	private final SchemaPool loadSchema() throws SAXException {
+		return SchemaPool.of(getClass().getResource(QXSD));
 	}
 
 	/**
-	 * 指定された入力がこの書式に従うか検証します。
+	 * 指定されたリーダが読み取る要素を構文の定義により逐次的に検証します。
 	 *
 	 *
-	 * @param reader 入力
+	 * @param reader 検証の対象のリーダ
 	 *
-	 * @return 読み取った文字列を読み直す入力
+	 * @return 読み取りと同時に検証するリーダ
 	 *
-	 * @throws IOException 構文または読み取り時の例外
+	 * @throws XMLStreamException 文書の冒頭の検証に失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	final XMLStreamReader valid(XMLStreamReader reader) throws XMLStreamException {
+		return new SchemaReader(reader, schema);
+	}
+
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
 	 */
-	public Reader valid(Reader reader) throws IOException {
-		try(final var br = new BufferedReader(reader)) {
-			final var join = Collectors.joining("\n");
-			final var text = br.lines().collect(join);
-			final var read = new StringReader(text);
-			final var strm = new StreamSource(read);
-			this.schema.newValidator().validate(strm);
-			return new StringReader(text);
-		} catch (SAXException ex) {
-			throw new IOException(ex);
-		}
+	@Override
+	public final int detect(String head) {
+		return detect(head, LIST.getLocalPart());
 	}
 }
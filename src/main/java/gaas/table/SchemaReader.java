@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.table;
+
+import java.util.Objects;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import gaas.utils.SchemaPool;
+
+import static javax.xml.stream.XMLStreamConstants.*;
+
+/**
+ * 読み取った要素を構文の定義により逐次的に検証するリーダです。
+ * 文書を読み直すことなく、読み取りと同時に検証を行います。
+ * 検証器は共有されており、文書の末尾で返却されます。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+final class SchemaReader extends StreamReaderDelegate implements Locator {
+	private final ValidatorHandler handler;
+	private final AttributesImpl attrs;
+	private final SchemaPool schema;
+
+	/**
+	 * 指定されたリーダの要素を検証するリーダを構築します。
+	 *
+	 *
+	 * @param reader 検証の対象のリーダ
+	 * @param schema 構文の定義と検証器
+	 *
+	 * @throws XMLStreamException 文書の冒頭の検証に失敗した場合
+	 */
+	public SchemaReader(XMLStreamReader reader, SchemaPool schema) throws XMLStreamException {
+		super(reader);
+		this.schema = schema;
+		this.attrs = new AttributesImpl();
+		this.handler = schema.handler();
+		this.handler.setDocumentLocator(this);
+		this.verify();
+	}
+
+	/**
+	 * 次の要素を読み取って検証します。
+	 *
+	 *
+	 * @return 次の要素の種類
+	 *
+	 * @throws XMLStreamException 読み取りまたは検証に失敗した場合
+	 */
+	@Override
+	public final int next() throws XMLStreamException {
+		final int event = super.next();
+		this.verify();
+		return event;
+	}
+
+	/**
+	 * 空白と注釈を読み飛ばして次の開始または終了タグを読み取ります。
+	 *
+	 *
+	 * @return 次のタグの種類
+	 *
+	 * @throws XMLStreamException 読み取りまたは検証に失敗した場合
+	 */
+	@Override
+	public final int nextTag() throws XMLStreamException {
+		while(true) {
+			final int event = next();
+			switch(event) {
+				case START_ELEMENT:
+				case END_ELEMENT: return event;
+				case PROCESSING_INSTRUCTION:
+				case COMMENT:
+				case SPACE: continue;
+				case CHARACTERS:
+				case CDATA: if(isWhiteSpace()) continue;
+			}
+			final var msg = "tag expected but event %d found";
+			throw new XMLStreamException(String.format(msg, event), getLocation());
+		}
+	}
+
+	/**
+	 * 現在の要素の終了タグまでの文字列を読み取ります。
+	 *
+	 *
+	 * @return 文字列
+	 *
+	 * @throws XMLStreamException 読み取りまたは検証に失敗した場合
+	 */
+	@Override
+	public final String getElementText() throws XMLStreamException {
+		final var text = new StringBuilder();
+		while(true) {
+			final int event = next();
+			switch(event) {
+				case END_ELEMENT: return text.toString();
+				case PROCESSING_INSTRUCTION:
+				case COMMENT: continue;
+				case CHARACTERS:
+				case CDATA:
+				case SPACE: text.append(getTextCharacters(), getTextStart(), getTextLength());
+				continue;
+			}
+			final var msg = "text expected but event %d found";
+			throw new XMLStreamException(String.format(msg, event), getLocation());
+		}
+	}
+
+	/**
+	 * 現在の要素を検証器に通知します。
+	 *
+	 *
+	 * @throws XMLStreamException 検証に失敗した場合
+	 */
+	private final void verify() throws XMLStreamException {
+		try {
+			switch(getEventType()) {
+				case START_DOCUMENT: handler.startDocument(); break;
+				case END_DOCUMENT: finish(); break;
+				case START_ELEMENT: enter(); break;
+				case END_ELEMENT: leave(); break;
+				case CHARACTERS:
+				case CDATA:
+				case SPACE: chars(); break;
+			}
+		} catch (SAXException ex) {
+			throw new XMLStreamException(ex.getMessage(), getLocation(), ex);
+		}
+	}
+
+	/**
+	 * 文書の終了を検証器に通知して、検証器を返却します。
+	 *
+	 *
+	 * @throws SAXException 検証に失敗した場合
+	 */
+	private final void finish() throws SAXException {
+		handler.endDocument();
+		schema.release(handler);
+	}
+
+	/**
+	 * 現在の開始タグを検証器に通知します。
+	 *
+	 *
+	 * @throws SAXException 検証に失敗した場合
+	 */
+	private final void enter() throws SAXException {
+		attrs.clear();
+		for(int i = 0; i < getAttributeCount(); i++) {
+			final var uri = Objects.toString(getAttributeNamespace(i), "");
+			final var key = getAttributeLocalName(i);
+			final var tag = qname(getAttributePrefix(i), key);
+			final var type = Objects.toString(getAttributeType(i), "CDATA");
+			attrs.addAttribute(uri, key, tag, type, getAttributeValue(i));
+		}
+		for(int i = 0; i < getNamespaceCount(); i++) {
+			final var pref = Objects.toString(getNamespacePrefix(i), "");
+			handler.startPrefixMapping(pref, getNamespaceURI(i));
+		}
+		final var uri = Objects.toString(getNamespaceURI(), "");
+		final var tag = qname(getPrefix(), getLocalName());
+		handler.startElement(uri, getLocalName(), tag, attrs);
+	}
+
+	/**
+	 * 現在の終了タグを検証器に通知します。
+	 *
+	 *
+	 * @throws SAXException 検証に失敗した場合
+	 */
+	private final void leave() throws SAXException {
+		final var uri = Objects.toString(getNamespaceURI(), "");
+		final var tag = qname(getPrefix(), getLocalName());
+		handler.endElement(uri, getLocalName(), tag);
+		for(int i = 0; i < getNamespaceCount(); i++) {
+			final var pref = Objects.toString(getNamespacePrefix(i), "");
+			handler.endPrefixMapping(pref);
+		}
+	}
+
+	/**
+	 * 現在の文字列を複製せずに検証器に通知します。
+	 *
+	 *
+	 * @throws SAXException 検証に失敗した場合
+	 */
+	private final void chars() throws SAXException {
+		handler.characters(getTextCharacters(), getTextStart(), getTextLength());
+	}
+
+	/**
+	 * 指定された接頭辞と名前を接頭辞付きの文字列に変換します。
+	 *
+	 *
+	 * @param prefix 接頭辞 またはnull
+	 * @param local 名前
+	 *
+	 * @return 接頭辞付きの名前
+	 */
+	private static final String qname(String prefix, String local) {
+		if(prefix == null || prefix.isEmpty()) return local;
+		return prefix.concat(":").concat(local);
+	}
+
+	@Override
+	public final String getPublicId() {
+		return getLocation().getPublicId();
+	}
+
+	@Override
+	public final String getSystemId() {
+		return getLocation().getSystemId();
+	}
+
+	@Override
+	public final int getLineNumber() {
+		return getLocation().getLineNumber();
+	}
+
+	@Override
+	public final int getColumnNumber() {
+		return getLocation().getColumnNumber();
+	}
+}
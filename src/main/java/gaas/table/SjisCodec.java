@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.table;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+
+/**
+ * バイナリ書式の固定長の属性値をShift_JISで符号化します。
+ * 変換器と緩衝領域を再利用し、ASCII文字のみの値は変換器を経由しません。
+ * このクラスはスレッドセーフではありません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+final class SjisCodec {
+	private static final Charset SJIS = Charset.forName("SJIS");
+	private static final int SIZE = 0x100;
+	private final CharsetDecoder decoder;
+	private final CharsetEncoder encoder;
+	private final CharBuffer chars;
+	private final ByteBuffer bytes;
+	private final char[] ascii;
+
+	/**
+	 * 変換器と緩衝領域を準備します。
+	 */
+	public SjisCodec() {
+		this.decoder = SJIS.newDecoder();
+		this.encoder = SJIS.newEncoder();
+		this.decoder.onMalformedInput(REPLACE);
+		this.decoder.onUnmappableCharacter(REPLACE);
+		this.encoder.onMalformedInput(REPLACE);
+		this.encoder.onUnmappableCharacter(REPLACE);
+		this.chars = CharBuffer.allocate(SIZE);
+		this.bytes = ByteBuffer.allocate(SIZE);
+		this.ascii = new char[SIZE];
+	}
+
+	/**
+	 * 指定された位置から終端の零または最大長までの文字列を読み取ります。
+	 * 最大長までに終端の零が存在しない場合は空の文字列を返します。
+	 *
+	 *
+	 * @param buf 属性値を含むバッファ
+	 * @param at 文字列の位置
+	 * @param max 最大のバイト数
+	 *
+	 * @return 文字列
+	 */
+	public final String decodeNul(ByteBuffer buf, int at, int max) {
+		int len = 0;
+		while(len < max && buf.get(at + len) != 0) len++;
+		return len == max? "": decode(buf, at, len);
+	}
+
+	/**
+	 * 指定された位置から指定されたバイト数の文字列を読み取ります。
+	 *
+	 *
+	 * @param buf 属性値を含むバッファ
+	 * @param at 文字列の位置
+	 * @param len 文字列のバイト数
+	 *
+	 * @return 文字列
+	 */
+	public final String decode(ByteBuffer buf, int at, int len) {
+		if(len > SIZE) return slow(buf, at, len);
+		for(int i = 0; i < len; i++) {
+			final byte b = buf.get(at + i);
+			if(b < 0) return slow(buf, at, len);
+			ascii[i] = (char) b;
+		}
+		return new String(ascii, 0, len);
+	}
+
+	/**
+	 * 非ASCII文字を含む文字列を変換器により読み取ります。
+	 *
+	 *
+	 * @param buf 属性値を含むバッファ
+	 * @param at 文字列の位置
+	 * @param len 文字列のバイト数
+	 *
+	 * @return 文字列
+	 */
+	private final String slow(ByteBuffer buf, int at, int len) {
+		if(len > SIZE) return SJIS.decode(slice(buf, at, len)).toString();
+		decoder.reset();
+		chars.clear();
+		decoder.decode(slice(buf, at, len), chars, true);
+		decoder.flush(chars);
+		return chars.flip().toString();
+	}
+
+	/**
+	 * 指定されたバッファの指定された範囲を参照するバッファを返します。
+	 *
+	 *
+	 * @param buf バッファ
+	 * @param at 範囲の位置
+	 * @param len 範囲のバイト数
+	 *
+	 * @return 範囲を参照するバッファ
+	 */
+	private static final ByteBuffer slice(ByteBuffer buf, int at, int len) {
+		return buf.duplicate().limit(at + len).position(at);
+	}
+
+	/**
+	 * 指定された文字列を最大長を超えない範囲で符号化します。
+	 * 最大長に収まらない文字は、文字の途中で切断せずに省略します。
+	 * 返されるバッファは、次の呼び出しまで有効です。
+	 *
+	 *
+	 * @param value 文字列
+	 * @param max 最大のバイト数
+	 *
+	 * @return 符号化されたバイト列を含むバッファ
+	 */
+	public final ByteBuffer encode(String value, int max) {
+		bytes.clear().limit(Math.min(max, SIZE));
+		for(int i = 0; i < value.length(); i++) {
+			final char ch = value.charAt(i);
+			if(ch >= 0x80) return slow(value);
+			if(!bytes.hasRemaining()) break;
+			bytes.put((byte) ch);
+		}
+		return bytes.flip();
+	}
+
+	/**
+	 * 非ASCII文字を含む文字列を変換器により符号化します。
+	 *
+	 *
+	 * @param value 文字列
+	 *
+	 * @return 符号化されたバイト列を含むバッファ
+	 */
+	private final ByteBuffer slow(String value) {
+		bytes.position(0);
+		encoder.reset();
+		encoder.encode(CharBuffer.wrap(value), bytes, true);
+		encoder.flush(bytes);
+		return bytes.flip();
+	}
+}
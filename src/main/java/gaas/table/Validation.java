@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.table;
+
+/**
+ * XML文書の交信記録を読み取る際の検証の水準を表す列挙型です。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public enum Validation {
+	/**
+	 * 交信記録を読み取りながら構文の定義により文書全体を検証します。
+	 */
+	FULL,
+
+	/**
+	 * 要素の入れ子構造と文書の末尾までの整形式のみを検証します。
+	 */
+	STRUCTURE,
+
+	/**
+	 * 交信記録の読み取りに必要な要素の構造のみを確認します。
+	 * 信頼できる文書を再び読み取る場合に使用します。
+	 */
+	NONE;
+}
@@ -7,14 +7,15 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import qxsl.draft.Qxsl;
-import qxsl.draft.Time;
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
 import qxsl.table.PrintDecoder;
+import qxsl.table.TimeParser;
+import qxsl.value.Field;
+
+import static java.time.ZoneId.systemDefault;
 
 /**
  * zLog ALL書式で直列化された交信記録をデコードします。
@@ -36,10 +37,13 @@ public final class ZAllDecoder extends PrintDecoder {
 	private static final int BAND = 8;
 	private static final int MODE = 9;
 	private static final int NOTE = 11;
+	static final int[] COLUMNS = {0, 17, 30, 34, 42, 46, 54, 60, 66, 71, 76, 79, 164};
 	private static final String EMPTY = "";
-	private final DateTimeFormatter tstamp;
+	private final TimeParser tstamp;
 	private final FieldManager fields;
 	private final ZAllFactory format;
+	private String bandText;
+	private Field bandItem;
 
 	/**
 	 * 指定された入力を読み込むデコーダを構築します。
@@ -51,8 +55,8 @@ public final class ZAllDecoder extends PrintDecoder {
 	public ZAllDecoder(Reader reader, ZAllFactory format) {
 		super(reader);
 		this.format = format;
-		this.fields = new FieldManager();
-		this.tstamp = format.getTimeDecoder();
+		this.fields = FieldManager.FIELDS;
+		this.tstamp = format.getTimeParser(systemDefault());
 	}
 
 	/**
@@ -99,19 +103,19 @@ public final class ZAllDecoder extends PrintDecoder {
 	@Override
 	public final Item next() throws IOException {
 		final var item = new Item();
-		final var vals = split(0, 17, 30, 34, 42, 46, 54, 60, 66, 71, 76, 79, 164);
+		final var vals = slice(COLUMNS);
 		try {
-			if(!vals[TIME].isEmpty()) time(item, vals[TIME]);
-			if(!vals[CALL].isEmpty()) call(item, vals[CALL]);
-			if(!vals[SRST].isEmpty()) sRST(item, vals[SRST]);
-			if(!vals[SENT].isEmpty()) sent(item, vals[SENT]);
-			if(!vals[RRST].isEmpty()) rRST(item, vals[RRST]);
-			if(!vals[RCVD].isEmpty()) rcvd(item, vals[RCVD]);
-			if(!vals[MUL1].isEmpty()) mul1(item, vals[MUL1]);
-			if(!vals[MUL2].isEmpty()) mul2(item, vals[MUL2]);
-			if(!vals[BAND].isEmpty()) band(item, vals[BAND]);
-			if(!vals[MODE].isEmpty()) mode(item, vals[MODE]);
-			if(!vals[NOTE].isEmpty()) note(item, vals[NOTE]);
+			if(vals[TIME].length() > 0) time(item, vals[TIME]);
+			if(vals[CALL].length() > 0) call(item, vals[CALL]);
+			if(vals[SRST].length() > 0) sRST(item, vals[SRST]);
+			if(vals[SENT].length() > 0) sent(item, vals[SENT]);
+			if(vals[RRST].length() > 0) rRST(item, vals[RRST]);
+			if(vals[RCVD].length() > 0) rcvd(item, vals[RCVD]);
+			if(vals[MUL1].length() > 0) mul1(item, vals[MUL1]);
+			if(vals[MUL2].length() > 0) mul2(item, vals[MUL2]);
+			if(vals[BAND].length() > 0) band(item, vals[BAND]);
+			if(vals[MODE].length() > 0) mode(item, vals[MODE]);
+			if(vals[NOTE].length() > 0) note(item, vals[NOTE]);
 			return item;
 		} catch (RuntimeException ex) {
 			throw new IOException(ex);
@@ -142,8 +146,8 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text 交信日時の文字列
 	 */
-	private final void time(Item item, String text) {
-		item.set(new Time(LocalDateTime.parse(text, tstamp)));
+	private final void time(Item item, CharSequence text) {
+		item.set(tstamp.parse(text));
 	}
 
 	/**
@@ -153,7 +157,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text コールサインの文字列
 	 */
-	private final void call(Item item, String text) {
+	private final void call(Item item, CharSequence text) {
 		item.set(fields.cache(Qxsl.CALL).field(text));
 	}
 
@@ -164,7 +168,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text レポートの文字列
 	 */
-	private final void sRST(Item item, String text) {
+	private final void sRST(Item item, CharSequence text) {
 		item.getSent().set(fields.cache(Qxsl.RSTQ).field(text));
 	}
 
@@ -175,7 +179,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text ナンバーの文字列
 	 */
-	private final void sent(Item item, String text) {
+	private final void sent(Item item, CharSequence text) {
 		item.getSent().set(fields.cache(Qxsl.CODE).field(text));
 	}
 
@@ -186,7 +190,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text レポートの文字列
 	 */
-	private final void rRST(Item item, String text) {
+	private final void rRST(Item item, CharSequence text) {
 		item.getRcvd().set(fields.cache(Qxsl.RSTQ).field(text));
 	}
 
@@ -197,7 +201,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text ナンバーの文字列
 	 */
-	private final void rcvd(Item item, String text) {
+	private final void rcvd(Item item, CharSequence text) {
 		item.getRcvd().set(fields.cache(Qxsl.CODE).field(text));
 	}
 
@@ -210,7 +214,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 *
 	 * @since 2020/10/28
 	 */
-	private final void mul1(Item item, String text) {
+	private final void mul1(Item item, CharSequence text) {
 		item.set(fields.cache(Qxsl.MUL1).field(text));
 	}
 
@@ -223,23 +227,42 @@ public final class ZAllDecoder extends PrintDecoder {
 	 *
 	 * @since 2020/10/28
 	 */
-	private final void mul2(Item item, String text) {
+	private final void mul2(Item item, CharSequence text) {
 		item.set(fields.cache(Qxsl.MUL2).field(text));
 	}
 
 	/**
 	 * 交信記録に周波数帯を設定します。
+	 * 直前の交信記録と同じ周波数帯の場合は、変換を省略します。
 	 *
 	 *
 	 * @param item 設定する交信記録
 	 * @param text 周波数帯の文字列
 	 */
-	private final void band(Item item, String text) {
+	private final void band(Item item, CharSequence text) {
+		if(bandText == null || !bandText.contentEquals(text)) {
+			this.bandText = text.toString();
+			this.bandItem = band(bandText);
+		}
+		item.set(bandItem);
+	}
+
+	/**
+	 * 指定された周波数帯の文字列を属性に変換します。
+	 *
+	 *
+	 * @param text 周波数帯の文字列
+	 *
+	 * @return 周波数帯
+	 *
+	 * @since 2026/10/17
+	 */
+	private final Field band(String text) {
 		final var num = text.replaceAll("G$", "");
 		final var exp = text.endsWith("G")? 1e6: 1e3;
 		final var val = Double.parseDouble(num);
 		final var kHz = String.valueOf(exp * val);
-		item.set(fields.cache(Qxsl.BAND).field(kHz));
+		return fields.cache(Qxsl.BAND).field(kHz);
 	}
 
 	/**
@@ -249,7 +272,7 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text 通信方式の文字列
 	 */
-	private final void mode(Item item, String text) {
+	private final void mode(Item item, CharSequence text) {
 		item.set(fields.cache(Qxsl.MODE).field(text));
 	}
 
@@ -260,10 +283,11 @@ public final class ZAllDecoder extends PrintDecoder {
 	 * @param item 設定する交信記録
 	 * @param text 備考の文字列
 	 */
-	private final void note(Item item, String text) {
-		final int bidx = text.indexOf("%%", 2);
-		final var name = bidx > 0? text.substring(2, bidx): EMPTY;
-		final var note = bidx > 0? text.substring(bidx + 2): text;
+	private final void note(Item item, CharSequence text) {
+		final var line = text.toString();
+		final int bidx = line.indexOf("%%", 2);
+		final var name = bidx > 0? line.substring(2, bidx): EMPTY;
+		final var note = bidx > 0? line.substring(bidx + 2): line;
 		item.set(fields.cache(Qxsl.NAME).field(name.trim()));
 		item.set(fields.cache(Qxsl.NOTE).field(note.trim()));
 	}
@@ -53,4 +53,35 @@ public final class ZAllFactory extends PrintFactory {
 	public final TableEncoder encoder(Writer writer) {
 		return new ZAllEncoder(writer, this);
 	}
+
+	/**
+	 * この書式は冒頭を除く各行に1件の交信記録を記録します。
+	 *
+	 *
+	 * @return 真
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final boolean splittable() {
+		return true;
+	}
+
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		final var line = sample(head, "zLog", "Date");
+		if(line != null && !fits(line, ZAllDecoder.COLUMNS)) return 0;
+		if(head.stripLeading().startsWith("zLog")) return 3;
+		return line != null? 2: 1;
+	}
 }
@@ -8,6 +8,7 @@ package gaas.table;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import qxsl.draft.Qxsl;
 import qxsl.field.FieldManager;
@@ -28,8 +29,11 @@ import gaas.table.ZBinFactory.WattEnum;
  * @since 2013/02/23
  */
 public final class ZBinDecoder extends TableDecoder {
+	static final int BLOCK = 0x100;
 	private final DataInputStream source;
+	private final ByteBuffer buffer;
 	private final FieldManager fields;
+	private final SjisCodec codec;
 	private final ZBinFactory format;
 	private DateTime tDTime;
 
@@ -42,7 +46,9 @@ public final class ZBinDecoder extends TableDecoder {
 	 */
 	public ZBinDecoder(InputStream stream, ZBinFactory format) {
 		this.source = new DataInputStream(stream);
-		this.fields = new FieldManager();
+		this.buffer = ByteBuffer.allocate(BLOCK);
+		this.fields = FieldManager.FIELDS;
+		this.codec = new SjisCodec();
 		this.format = format;
 	}
 
@@ -67,9 +73,20 @@ public final class ZBinDecoder extends TableDecoder {
 	 */
 	@Override
 	public final void head() throws IOException {
-		source.readFully(new byte[0x54]);
-		this.tDTime = DateTime.newInstance(source.readShort());
-		source.readFully(new byte[0xAA]);
+		source.readFully(buffer.array());
+		head(buffer);
+	}
+
+	/**
+	 * 指定されたバッファの冒頭から交信記録の冒頭を読み取ります。
+	 *
+	 *
+	 * @param buf 交信記録の冒頭を含むバッファ
+	 *
+	 * @since 2026/10/17
+	 */
+	final void head(ByteBuffer buf) {
+		this.tDTime = DateTime.newInstance(buf.getShort(0x54));
 	}
 
 	/**
@@ -95,25 +112,43 @@ public final class ZBinDecoder extends TableDecoder {
 	 */
 	@Override
 	public final Item next() throws IOException {
+		source.readFully(buffer.array());
+		return next(buffer, 0);
+	}
+
+	/**
+	 * 指定されたバッファの指定された位置の交信記録を読み取ります。
+	 *
+	 *
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
+	 *
+	 * @return 読み取った交信記録
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	final Item next(ByteBuffer buf, int at) throws IOException {
 		final var item = new Item();
-		time(item);
-		call(item);
-		sent(item);
-		rcvd(item);
-		source.skipBytes(1);
-		sRST(item);
-		rRST(item);
-		source.skipBytes(4);
-		mode(item);
-		band(item);
-		watt(item);
-		mul1(item);
-		mul2(item);
-		source.skipBytes(3);
-		name(item);
-		note(item);
-		source.skipBytes(14);
-		return item;
+		try {
+			time(item, buf, at);
+			call(item, buf, at);
+			sent(item, buf, at);
+			rcvd(item, buf, at);
+			sRST(item, buf, at);
+			rRST(item, buf, at);
+			mode(item, buf, at);
+			band(item, buf, at);
+			watt(item, buf, at);
+			mul1(item, buf, at);
+			mul2(item, buf, at);
+			name(item, buf, at);
+			note(item, buf, at);
+			return item;
+		} catch (RuntimeException ex) {
+			throw new IOException(ex);
+		}
 	}
 
 	/**
@@ -132,20 +167,21 @@ public final class ZBinDecoder extends TableDecoder {
 	}
 
 	/**
-	 * 指定された長さまでの文字列を読み取ります。
+	 * 指定された位置の長さ付きの文字列を読み取ります。
 	 *
 	 *
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 文字列の長さの位置
 	 * @param max 最大文字数
 	 *
 	 * @return 読み込んだ文字列
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final String read(int max) throws IOException {
-		final var buff = new byte[source.read()];
-		source.readFully(buff);
-		source.skipBytes(max - buff.length);
-		return new String(buff, "SJIS");
+	private final String read(ByteBuffer buf, int at, int max) throws IOException {
+		final int len = Byte.toUnsignedInt(buf.get(at));
+		if(len > max) throw new IOException("too long: " + len);
+		return codec.decode(buf, at + 1, len);
 	}
 
 	/**
@@ -153,11 +189,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void time(Item item) throws IOException {
-		item.set(tDTime.decode(source.readLong()));
+	private final void time(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(tDTime.decode(buf.getLong(at)));
 	}
 
 	/**
@@ -165,11 +203,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void call(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.CALL).field(read(12)));
+	private final void call(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(fields.cache(Qxsl.CALL).field(read(buf, at + 0x08, 12)));
 	}
 
 	/**
@@ -177,11 +217,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void sent(Item item) throws IOException {
-		item.getSent().set(fields.cache(Qxsl.CODE).field(read(30)));
+	private final void sent(Item item, ByteBuffer buf, int at) throws IOException {
+		item.getSent().set(fields.cache(Qxsl.CODE).field(read(buf, at + 0x15, 30)));
 	}
 
 	/**
@@ -189,11 +231,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void rcvd(Item item) throws IOException {
-		item.getRcvd().set(fields.cache(Qxsl.CODE).field(read(30)));
+	private final void rcvd(Item item, ByteBuffer buf, int at) throws IOException {
+		item.getRcvd().set(fields.cache(Qxsl.CODE).field(read(buf, at + 0x34, 30)));
 	}
 
 	/**
@@ -201,11 +245,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void sRST(Item item) throws IOException {
-		final var rst = Short.reverseBytes(source.readShort());
+	private final void sRST(Item item, ByteBuffer buf, int at) throws IOException {
+		final var rst = Short.reverseBytes(buf.getShort(at + 0x54));
 		item.getSent().set(fields.cache(Qxsl.RSTQ).field(rst));
 	}
 
@@ -214,11 +260,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void rRST(Item item) throws IOException {
-		final var rst = Short.reverseBytes(source.readShort());
+	private final void rRST(Item item, ByteBuffer buf, int at) throws IOException {
+		final var rst = Short.reverseBytes(buf.getShort(at + 0x56));
 		item.getRcvd().set(fields.cache(Qxsl.RSTQ).field(rst));
 	}
 
@@ -227,11 +275,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void mode(Item item) throws IOException {
-		item.set(ModeEnum.forIndex(source.read()).toMode());
+	private final void mode(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(ModeEnum.forIndex(buf.get(at + 0x5C)).toMode());
 	}
 
 	/**
@@ -239,11 +289,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void band(Item item) throws IOException {
-		item.set(BandEnum.forIndex(source.read()).toBand());
+	private final void band(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(BandEnum.forIndex(buf.get(at + 0x5D)).toBand());
 	}
 
 	/**
@@ -251,11 +303,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void watt(Item item) throws IOException {
-		item.getSent().set(WattEnum.forIndex(source.read()).toWatt());
+	private final void watt(Item item, ByteBuffer buf, int at) throws IOException {
+		item.getSent().set(WattEnum.forIndex(buf.get(at + 0x5E)).toWatt());
 	}
 
 	/**
@@ -263,13 +317,15 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 *
 	 * @since 2020/10/28
 	 */
-	private final void mul1(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.MUL1).field(read(30)));
+	private final void mul1(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(fields.cache(Qxsl.MUL1).field(read(buf, at + 0x5F, 30)));
 	}
 
 	/**
@@ -277,13 +333,15 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 *
 	 * @since 2020/10/28
 	 */
-	private final void mul2(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.MUL2).field(read(30)));
+	private final void mul2(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(fields.cache(Qxsl.MUL2).field(read(buf, at + 0x7E, 30)));
 	}
 
 	/**
@@ -291,11 +349,13 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void name(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.NAME).field(read(14)));
+	private final void name(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(fields.cache(Qxsl.NAME).field(read(buf, at + 0xA0, 14)));
 	}
 
 	/**
@@ -303,10 +363,12 @@ public final class ZBinDecoder extends TableDecoder {
 	 *
 	 *
 	 * @param item 設定する交信記録
+	 * @param buf 交信記録を含むバッファ
+	 * @param at 交信記録の位置
 	 *
 	 * @throws IOException 読み取りに失敗した場合
 	 */
-	private final void note(Item item) throws IOException {
-		item.set(fields.cache(Qxsl.NOTE).field(read(66)));
+	private final void note(Item item, ByteBuffer buf, int at) throws IOException {
+		item.set(fields.cache(Qxsl.NOTE).field(read(buf, at + 0xAF, 66)));
 	}
 }
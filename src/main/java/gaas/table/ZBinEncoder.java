@@ -5,7 +5,6 @@
 *******************************************************************************/
 package gaas.table;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -21,6 +20,7 @@ import gaas.table.ZBinFactory.WattEnum;
 
 /**
  * 交信記録をzLogバイナリデータに直列化するエンコーダです。
+ * 交信記録は緩衝領域に蓄積され、末尾の書き込み時に一括で出力されます。
  *
  *
  * @author 無線部開発班
@@ -28,7 +28,8 @@ import gaas.table.ZBinFactory.WattEnum;
  * @since 2013/02/23
  */
 public final class ZBinEncoder extends TableEncoder {
-	private final DataOutputStream target;
+	private final BlockWriter target;
+	private final SjisCodec codec;
 	private final ZBinFactory format;
 	private final DateTime tDTime;
 
@@ -40,7 +41,8 @@ public final class ZBinEncoder extends TableEncoder {
 	 * @param format 書式
 	 */
 	public ZBinEncoder(OutputStream stream, ZBinFactory format) {
-		this.target = new DataOutputStream(stream);
+		this.target = new BlockWriter(stream);
+		this.codec = new SjisCodec();
 		this.tDTime = new DateTime();
 		this.format = format;
 	}
@@ -66,9 +68,9 @@ public final class ZBinEncoder extends TableEncoder {
 	 */
 	@Override
 	public final void head() throws IOException {
-		target.write(new byte[0x54]);
+		target.zero(0x54);
 		target.writeShort(tDTime.getOffset());
-		target.write(new byte[0xAA]);
+		target.zero(0xAA);
 	}
 
 	/**
@@ -80,7 +82,9 @@ public final class ZBinEncoder extends TableEncoder {
 	 * @since 2020/09/04
 	 */
 	@Override
-	public final void foot() throws IOException {}
+	public final void foot() throws IOException {
+		target.flush();
+	}
 
 	/**
 	 * ストリームに書き込まずに交信記録を検査します。
@@ -141,20 +145,19 @@ public final class ZBinEncoder extends TableEncoder {
 		write(12, item.get(Qxsl.CALL));
 		write(30, item.getSent().get(Qxsl.CODE));
 		write(30, item.getRcvd().get(Qxsl.CODE));
-		target.write(new byte[1]);
+		target.zero(1);
 		rstq((RSTQ) item.getSent().get(Qxsl.RSTQ));
 		rstq((RSTQ) item.getRcvd().get(Qxsl.RSTQ));
-		target.write(new byte[4]);
+		target.zero(4);
 		mode((Mode) item.get(Qxsl.MODE));
 		band((Band) item.get(Qxsl.BAND));
 		watt((Watt) item.getSent().get(Qxsl.WATT));
 		write(30, item.get(Qxsl.MUL1));
 		write(30, item.get(Qxsl.MUL2));
-		target.write(new byte[3]);
+		target.zero(3);
 		write(14, item.get(Qxsl.NAME));
 		write(66, item.get(Qxsl.NOTE));
-		target.write(new byte[14]);
-		target.flush();
+		target.zero(14);
 	}
 
 	/**
@@ -168,10 +171,11 @@ public final class ZBinEncoder extends TableEncoder {
 	 */
 	private void write(int n, Field f) throws IOException {
 		final var value = f != null? f.truncate(n): "";
-		final var bytes = value.getBytes("SJIS");
-		target.writeByte(bytes.length);
+		final var bytes = codec.encode(value, n);
+		final int size = bytes.remaining();
+		target.writeByte(size);
 		target.write(bytes);
-		target.write(new byte[n - bytes.length]);
+		target.zero(n - size);
 	}
 
 	/**
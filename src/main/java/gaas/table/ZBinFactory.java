@@ -5,8 +5,10 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -68,6 +70,82 @@ public final class ZBinFactory extends BasicFactory {
 		return new ZBinEncoder(os, this);
 	}
 
+	/**
+	 * 指定されたファイルを写像して交信記録を任意の順序で読み取ります。
+	 *
+	 *
+	 * @param path 交信記録のファイル
+	 *
+	 * @return 交信記録のリスト
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final ZBinRecords records(Path path) throws IOException {
+		return new ZBinRecords(path, this);
+	}
+
+	/**
+	 * 文字列はこの書式に該当しないので零を返します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 零
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(String head) {
+		return 0;
+	}
+
+	/**
+	 * 指定されたバイト列の冒頭がこの書式に従う可能性を評価します。
+	 * 冒頭に含まれる全ての交信記録の文字列長と列挙子を検査します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭のバイト列
+	 *
+	 * @return 交信記録が妥当な場合は2
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(byte[] head) {
+		if(head.length < 0x100) return 0;
+		for(int n = 0x100; n + 0x100 <= head.length; n += 0x100) {
+			if(!valid(head, n)) return 0;
+		}
+		return head.length < 0x200? 1: 2;
+	}
+
+	/**
+	 * 指定された位置の交信記録が妥当な値を持つか確認します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭のバイト列
+	 * @param n 交信記録の位置
+	 *
+	 * @return 妥当な場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final boolean valid(byte[] head, int n) {
+		if(Byte.toUnsignedInt(head[n + 0x08]) > 12) return false;
+		if(Byte.toUnsignedInt(head[n + 0x15]) > 30) return false;
+		if(Byte.toUnsignedInt(head[n + 0x34]) > 30) return false;
+		if(ModeEnum.forIndex(head[n + 0x5C]) == null) return false;
+		if(BandEnum.forIndex(head[n + 0x5D]) == null) return false;
+		if(WattEnum.forIndex(head[n + 0x5E]) == null) return false;
+		if(Byte.toUnsignedInt(head[n + 0x5F]) > 30) return false;
+		if(Byte.toUnsignedInt(head[n + 0x7E]) > 30) return false;
+		if(Byte.toUnsignedInt(head[n + 0xA0]) > 14) return false;
+		if(Byte.toUnsignedInt(head[n + 0xAF]) > 66) return false;
+		return true;
+	}
+
 	/**
 	 * zLogバイナリデータの周波数帯の列挙型です。
 	 *
@@ -94,6 +172,7 @@ public final class ZBinFactory extends BasicFactory {
 		M5600 ( 5600000),
 		G10UP (10000000);
 
+		private static final BandEnum[] VALUES = values();
 		private final Band band;
 
 		/**
@@ -103,7 +182,7 @@ public final class ZBinFactory extends BasicFactory {
 		 * @param band 周波数帯
 		 */
 		private BandEnum(int band) {
-			this.band = new Band(band);
+			this.band = Band.of(band);
 		}
 
 		@Override
@@ -130,7 +209,7 @@ public final class ZBinFactory extends BasicFactory {
 		 * @return 対応する列挙子があれば返す
 		 */
 		public static final BandEnum valueOf(Band band) {
-			for(var v: values()) if(v.band.equals(band)) return v;
+			for(var v: VALUES) if(v.band.equals(band)) return v;
 			return null;
 		}
 
@@ -143,8 +222,8 @@ public final class ZBinFactory extends BasicFactory {
 		 * @return 対応する列挙子があれば返す
 		 */
 		public static final BandEnum forIndex(int band) {
-			for(var v: values()) if(v.ordinal() == band) return v;
-			return null;
+			if(band < 0 || band >= VALUES.length) return null;
+			return VALUES[band];
 		}
 	}
 
@@ -282,6 +361,9 @@ public final class ZBinFactory extends BasicFactory {
 		private static final long MS_DAY = 86400000;
 		private static final long USEUTC = 0x7FFF;
 		private final ZonedDateTime epoch;
+		private final boolean fixed;
+		private final ZoneId zone;
+		private final long base;
 
 		/**
 		 * 1899年12月30日を起点に時刻の解析器を構築します。
@@ -303,6 +385,9 @@ public final class ZBinFactory extends BasicFactory {
 		 */
 		public DateTime(ZoneId zone) {
 			this.epoch = LocalDate.of(1899, 12, 30).atStartOfDay(zone);
+			this.fixed = zone.getRules().isFixedOffset();
+			this.base = epoch.toEpochSecond();
+			this.zone = epoch.getZone();
 		}
 
 		/**
@@ -321,6 +406,7 @@ public final class ZBinFactory extends BasicFactory {
 
 		/**
 		 * 指定された時刻をデコードします。
+		 * 時差が固定の場合は、日時を経由せずに秒数を計算します。
 		 *
 		 *
 		 * @param data 時刻のビット列
@@ -331,8 +417,12 @@ public final class ZBinFactory extends BasicFactory {
 			final var b = Long.reverseBytes(data);
 			final var d = Double.longBitsToDouble(b);
 			final var t = round(abs(d) % 1 * MS_DAY);
-			final var z = epoch.plus((long) d, DAYS);
-			return new Time(z.plus((long) t, MILLIS));
+			if(!fixed) {
+				final var z = epoch.plus((long) d, DAYS);
+				return new Time(z.plus((long) t, MILLIS));
+			}
+			final var s = base + (long) d * 86400 + t / 1000;
+			return new Time(s, (int) (t % 1000) * 1000000, zone);
 		}
 
 		/**
@@ -344,7 +434,7 @@ public final class ZBinFactory extends BasicFactory {
 		 * @return 時刻のビット列
 		 */
 		public final long encode(Time field) {
-			final var m = epoch.until(field.value(), MILLIS);
+			final var m = epoch.toInstant().until(field.toInstant(), MILLIS);
 			final var d = abs((double) m) % MS_DAY / MS_DAY;
 			final var b = Double.doubleToLongBits(d + m / MS_DAY);
 			return Long.reverseBytes(b);
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.table;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import qxsl.model.Item;
+
+import static gaas.table.ZBinDecoder.BLOCK;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * zLogバイナリファイルを主記憶に写像して交信記録を任意の順序で読み取ります。
+ * 交信記録は要求に応じて読み取るため、必要な範囲のみを走査できます。
+ * このクラスはスレッドセーフではありません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class ZBinRecords extends AbstractList<Item>
+	implements RandomAccess, AutoCloseable {
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private final ZBinDecoder decoder;
+
+	/**
+	 * 指定されたファイルを読み込むリストを構築します。
+	 *
+	 *
+	 * @param path ファイル
+	 * @param format 書式
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 */
+	public ZBinRecords(Path path, ZBinFactory format) throws IOException {
+		this.channel = FileChannel.open(path, READ);
+		try {
+			final long size = channel.size();
+			if(size > Integer.MAX_VALUE) throw new IOException("too large");
+			if(size < BLOCK) throw new IOException("header not found");
+			this.buffer = channel.map(READ_ONLY, 0, size);
+			this.decoder = new ZBinDecoder(InputStream.nullInputStream(), format);
+			this.decoder.head(buffer);
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * ファイルを閉じて資源を解放します。
+	 *
+	 *
+	 * @throws IOException 解放に失敗した場合
+	 */
+	@Override
+	public final void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * ファイルに含まれる交信記録の件数を返します。
+	 *
+	 *
+	 * @return 交信記録の件数
+	 */
+	@Override
+	public final int size() {
+		return buffer.capacity() / BLOCK - 1;
+	}
+
+	/**
+	 * 指定された位置の交信記録を読み取ります。
+	 *
+	 *
+	 * @param index 交信記録の位置
+	 *
+	 * @return 読み取った交信記録
+	 *
+	 * @throws IndexOutOfBoundsException 範囲外の場合
+	 * @throws UncheckedIOException 読み取りに失敗した場合
+	 */
+	@Override
+	public final Item get(int index) {
+		Objects.checkIndex(index, size());
+		try {
+			return decoder.next(buffer, BLOCK * (index + 1));
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
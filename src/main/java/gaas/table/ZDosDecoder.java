@@ -7,14 +7,14 @@ package gaas.table;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import qxsl.draft.Qxsl;
-import qxsl.draft.Time;
 import qxsl.field.FieldManager;
 import qxsl.model.Item;
 import qxsl.table.PrintDecoder;
+import qxsl.table.TimeParser;
+
+import static java.time.ZoneId.systemDefault;
 
 /**
  * zLogテキスト書式で直列化された交信記録をデコードします。
@@ -33,8 +33,9 @@ public final class ZDosDecoder extends PrintDecoder {
 	private static final int BAND = 5;
 	private static final int MODE = 6;
 	private static final int NOTE = 8;
+	static final int[] COLUMNS = {0, 13, 24, 37, 50, 57, 63, 68, 72, 157};
 	private static final String EMPTY = "";
-	private final DateTimeFormatter tstamp;
+	private final TimeParser tstamp;
 	private final FieldManager fields;
 	private final ZDosFactory format;
 
@@ -48,8 +49,8 @@ public final class ZDosDecoder extends PrintDecoder {
 	public ZDosDecoder(Reader reader, ZDosFactory format) {
 		super(reader);
 		this.format = format;
-		this.fields = new FieldManager();
-		this.tstamp = format.getTimeDecoderOld();
+		this.fields = FieldManager.FIELDS;
+		this.tstamp = format.getTimeParserOld(systemDefault());
 	}
 
 	/**
@@ -95,7 +96,7 @@ public final class ZDosDecoder extends PrintDecoder {
 	@Override
 	public final Item next() throws IOException {
 		final var item = new Item();
-		final var vals = split(0, 13, 24, 37, 50, 57, 63, 68, 72, 157);
+		final var vals = split(COLUMNS);
 		try {
 			if(!vals[TIME].isEmpty()) time(item, vals[TIME]);
 			if(!vals[CALL].isEmpty()) call(item, vals[CALL]);
@@ -136,7 +137,7 @@ public final class ZDosDecoder extends PrintDecoder {
 	 * @param text 交信日時の文字列
 	 */
 	private final void time(Item item, String text) {
-		item.set(new Time(LocalDateTime.parse(text, tstamp)));
+		item.set(tstamp.parse(text));
 	}
 
 	/**
@@ -110,7 +110,7 @@ public final class AssetUtils {
 	public final List<Item> items(String path) {
 		try(final var stream = stream(path)) {
 			final var bytes = stream.readAllBytes();
-			return new TableManager().decode(bytes);
+			return new TableManager().decode(bytes, path);
 		} catch (IOException ex) {
 			throw new UncheckedIOException(ex);
 		}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.utils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.SAXException;
+
+/**
+ * 構文の定義と検証器をプロセス全体で共有します。
+ * 構文の定義は資源毎に一度だけ読み取られ、
+ * 検証器は使用後に初期化されて再利用されます。
+ * このクラスはスレッド安全です。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class SchemaPool {
+	private static final Map<String, SchemaPool> POOLS = new ConcurrentHashMap<>();
+	private final Queue<Validator> validators;
+	private final Queue<ValidatorHandler> handlers;
+	private final Schema schema;
+
+	/**
+	 * 指定された構文の定義を共有します。
+	 *
+	 *
+	 * @param schema 構文の定義
+	 */
+	private SchemaPool(Schema schema) {
+		this.validators = new ConcurrentLinkedQueue<>();
+		this.handlers = new ConcurrentLinkedQueue<>();
+		this.schema = schema;
+	}
+
+	/**
+	 * 指定された資源の構文の定義を共有するインスタンスを返します。
+	 * 初回の呼び出し時に限り、構文の定義を読み取ります。
+	 *
+	 *
+	 * @param url 構文の定義の資源
+	 *
+	 * @return インスタンス
+	 *
+	 * @throws SAXException スキーマの例外
+	 */
+	public static final SchemaPool of(URL url) throws SAXException {
+		final var key = url.toExternalForm();
+		final var pool = POOLS.get(key);
+		if(pool != null) return pool;
+		final var fact = SchemaFactory.newDefaultInstance();
+		final var made = new SchemaPool(fact.newSchema(url));
+		final var prev = POOLS.putIfAbsent(key, made);
+		return prev != null? prev: made;
+	}
+
+	/**
+	 * 共有された構文の定義を返します。
+	 *
+	 *
+	 * @return 構文の定義
+	 */
+	public final Schema schema() {
+		return schema;
+	}
+
+	/**
+	 * 共有された検証器で指定された文書を検証します。
+	 *
+	 *
+	 * @param source 文書
+	 *
+	 * @throws SAXException 検証に失敗した場合
+	 * @throws IOException 読み取りに失敗した場合
+	 */
+	public final void validate(Source source) throws SAXException, IOException {
+		final var valid = validators.poll();
+		final var using = valid != null? valid: schema.newValidator();
+		try {
+			using.validate(source);
+		} finally {
+			using.reset();
+			validators.offer(using);
+		}
+	}
+
+	/**
+	 * 共有された検証器を借ります。
+	 * 文書の検証が完了した検証器は{@link #release}で返却できます。
+	 * 検証に失敗した検証器は、返却せずに破棄して構いません。
+	 *
+	 *
+	 * @return 検証器
+	 */
+	public final ValidatorHandler handler() {
+		final var handler = handlers.poll();
+		return handler != null? handler: schema.newValidatorHandler();
+	}
+
+	/**
+	 * 文書の検証が完了した検証器を返却します。
+	 *
+	 *
+	 * @param handler 検証器
+	 */
+	public final void release(ValidatorHandler handler) {
+		handler.setDocumentLocator(null);
+		handler.setContentHandler(null);
+		handlers.offer(handler);
+	}
+}
@@ -6,6 +6,7 @@
 package qxsl.draft;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import qxsl.value.Tuple;
 
@@ -18,6 +19,40 @@ import qxsl.value.Tuple;
  * @since 2013/06/08
  */
 public final class Band extends Qxsl<BigDecimal> {
+	private static final long[] KHZ = {
+		136, 475, 1800, 1900, 3500, 7000, 10000, 10100, 14000,
+		18000, 18068, 21000, 24000, 24890, 28000, 50000, 70000,
+		144000, 222000, 430000, 432000, 902000, 1200000, 2300000,
+		2400000, 3400000, 5600000, 5700000, 10000000, 24000000,
+		47000000, 75000000, 77000000, 123000000, 134000000,
+		135000000, 241000000, 248000000
+	};
+	private static final long[][] BUCKETS = {
+		{1800, 1913, 1900},
+		{3500, 3687, 3500},
+		{7000, 7200, 7000},
+		{10000, 10150, 10000},
+		{14000, 14350, 14000},
+		{18000, 18168, 18000},
+		{21000, 21450, 21000},
+		{28000, 29700, 28000},
+		{50000, 54000, 50000},
+		{144000, 146000, 144000},
+		{430000, 440000, 430000},
+		{1200000, 1300000, 1200000},
+		{2400000, 2450000, 2400000},
+		{5600000, 5850000, 5600000},
+		{10000000, 10250000, 10000000}
+	};
+	private static final Band[] BANDS = new Band[KHZ.length];
+	private final BigDecimal exact;
+	private final long kHz;
+	private int bucket = -1;
+
+	static {
+		for(int i = 0; i < KHZ.length; i++) BANDS[i] = new Band(KHZ[i], null);
+	}
+
 	/**
 	 * 周波数を指定して属性を構築します。
 	 *
@@ -25,7 +60,7 @@ public final class Band extends Qxsl<BigDecimal> {
 	 * @param band キロヘルツ単位の周波数
 	 */
 	public Band(int band) {
-		this(BigDecimal.valueOf(band));
+		this(band, null);
 	}
 
 	/**
@@ -45,7 +80,150 @@ public final class Band extends Qxsl<BigDecimal> {
 	 * @param band キロヘルツ単位の周波数
 	 */
 	public Band(BigDecimal band) {
-		super(BAND, band);
+		this(band.longValue(), fraction(band));
+	}
+
+	/**
+	 * 周波数の整数部と端数を含む厳密な値で属性を構築します。
+	 *
+	 *
+	 * @param kHz キロヘルツ単位の周波数の整数部
+	 * @param exact 端数を含む周波数 またはnull
+	 *
+	 * @since 2026/10/17
+	 */
+	private Band(long kHz, BigDecimal exact) {
+		super(BAND, null);
+		this.exact = exact;
+		this.kHz = kHz;
+	}
+
+	/**
+	 * 指定された周波数の属性を返します。
+	 * 標準的な周波数帯の場合は共有された属性を返します。
+	 *
+	 *
+	 * @param kHz キロヘルツ単位の周波数
+	 *
+	 * @return 属性
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final Band of(long kHz) {
+		final int idx = Arrays.binarySearch(KHZ, kHz);
+		return idx >= 0? BANDS[idx]: new Band(kHz, null);
+	}
+
+	/**
+	 * 指定された周波数の属性を返します。
+	 * 整数の標準的な周波数帯の場合は共有された属性を返します。
+	 *
+	 *
+	 * @param kHz キロヘルツ単位の周波数
+	 *
+	 * @return 属性
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final Band of(BigDecimal kHz) {
+		final var exact = fraction(kHz);
+		if(exact == null) return of(kHz.longValue());
+		return new Band(kHz.longValue(), exact);
+	}
+
+	/**
+	 * 指定された周波数が整数で表せない場合に限り、正規化して返します。
+	 *
+	 *
+	 * @param kHz キロヘルツ単位の周波数
+	 *
+	 * @return 端数を含む周波数 またはnull
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final BigDecimal fraction(BigDecimal kHz) {
+		final var strip = kHz.stripTrailingZeros();
+		if(strip.scale() > 0) return strip;
+		if(strip.precision() - strip.scale() > 18) return strip;
+		return null;
+	}
+
+	/**
+	 * この属性の値を返します。
+	 *
+	 *
+	 * @return キロヘルツ単位の周波数
+	 */
+	@Override
+	public final BigDecimal value() {
+		return exact != null? exact: BigDecimal.valueOf(kHz);
+	}
+
+	/**
+	 * キロヘルツ単位の周波数の整数部を返します。
+	 *
+	 *
+	 * @return キロヘルツ単位の周波数
+	 *
+	 * @since 2026/10/17
+	 */
+	public final long toKHz() {
+		return kHz;
+	}
+
+	/**
+	 * 周波数がキロヘルツ単位の整数で表せるか確認します。
+	 *
+	 *
+	 * @return 端数がない場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public final boolean isIntegral() {
+		return exact == null;
+	}
+
+	/**
+	 * 周波数が属する周波数帯の代表の周波数を返します。
+	 * 値は属性毎に一度だけ計算され、共有された属性の間で再利用されます。
+	 * 規約の周波数帯の定数も、この値から導出されます。
+	 *
+	 *
+	 * @return キロヘルツ単位の代表の周波数 または範囲外の場合はnull
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Integer bucket() {
+		if(bucket < 0) this.bucket = (int) search();
+		return bucket > 0? bucket: null;
+	}
+
+	/**
+	 * 周波数が属する周波数帯の代表の周波数を検索します。
+	 *
+	 *
+	 * @return キロヘルツ単位の代表の周波数 または範囲外の場合は零
+	 */
+	private final long search() {
+		for(var range: BUCKETS) {
+			if(within(range[0], range[1])) return range[2];
+		}
+		return 0;
+	}
+
+	/**
+	 * 周波数が指定された閉区間に含まれるか確認します。
+	 *
+	 *
+	 * @param lower キロヘルツ単位の下限
+	 * @param upper キロヘルツ単位の上限
+	 *
+	 * @return 含まれる場合は真
+	 */
+	private final boolean within(long lower, long upper) {
+		if(exact == null) return lower <= kHz && kHz <= upper;
+		if(exact.compareTo(BigDecimal.valueOf(lower)) < 0) return false;
+		return exact.compareTo(BigDecimal.valueOf(upper)) <= 0;
 	}
 
 	/**
@@ -70,8 +248,9 @@ public final class Band extends Qxsl<BigDecimal> {
 	 */
 	@Override
 	public final String toString() {
-		if(value.doubleValue() > 1e6) return toGHzString();
-		if(value.doubleValue() > 1e3) return toMHzString();
+		final double kHz = exact != null? exact.doubleValue(): this.kHz;
+		if(kHz > 1e6) return toGHzString();
+		if(kHz > 1e3) return toMHzString();
 		return toKHzString();
 	}
 
@@ -114,7 +293,7 @@ public final class Band extends Qxsl<BigDecimal> {
 	 * @return 実数により表される周波数
 	 */
 	public final String toDecimalString(int scale) {
-		final var d = value.scaleByPowerOfTen(-scale);
+		final var d = value().scaleByPowerOfTen(-scale);
 		return d.stripTrailingZeros().toPlainString();
 	}
 
@@ -150,6 +329,19 @@ public final class Band extends Qxsl<BigDecimal> {
 	@Override
 	public final boolean equals(Object obj) {
 		if(!Band.class.isInstance(obj)) return false;
-		return value.compareTo(((Band) obj).value) == 0;
+		final var band = (Band) obj;
+		if(exact == null && band.exact == null) return kHz == band.kHz;
+		return value().compareTo(band.value()) == 0;
+	}
+
+	/**
+	 * 属性値のハッシュ値を計算します。
+	 *
+	 *
+	 * @return ハッシュ値
+	 */
+	@Override
+	public final int hashCode() {
+		return exact != null? exact.hashCode(): Long.hashCode(kHz);
 	}
 }
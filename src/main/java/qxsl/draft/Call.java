@@ -6,6 +6,9 @@
 package qxsl.draft;
 
 import java.text.Normalizer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import qxsl.value.Tuple;
 
@@ -13,6 +16,7 @@ import static java.text.Normalizer.Form.NFKC;
 
 /**
  * 相手の呼出符号を表す属性の実装です。
+ * {@link #of(String)}で取得した属性は、値毎に共有されます。
  *
  *
  * @author 無線部開発班
@@ -20,7 +24,11 @@ import static java.text.Normalizer.Form.NFKC;
  * @since 2013/06/08
  */
 public final class Call extends Qxsl<String> {
-	private static final String PATTERN = "\\w+(/\\w+)?";
+	private static final Map<String, Call> POOL = new ConcurrentHashMap<>();
+	private static final int LIMIT = 0x10000;
+	private final String base;
+	private final String suffix;
+	private final int hash;
 
 	/**
 	 * 呼出符号を指定して属性を構築します。
@@ -30,6 +38,31 @@ public final class Call extends Qxsl<String> {
 	 */
 	public Call(String call) {
 		super(CALL, normalize(call));
+		final int slash = value.indexOf('/');
+		this.base = slash < 0? value: value.substring(0, slash);
+		this.suffix = slash < 0? null: value.substring(slash + 1);
+		this.hash = Objects.hash(name(), value);
+	}
+
+	/**
+	 * 呼出符号を指定して共有の属性を返します。
+	 * 共有の属性の個数が上限に達した場合は、新たな属性を構築します。
+	 *
+	 *
+	 * @param call 呼出符号
+	 *
+	 * @return 呼出符号の属性
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final Call of(String call) {
+		final var value = normalize(call);
+		final var made = POOL.get(value);
+		if(made != null) return made;
+		final var init = new Call(value);
+		if(POOL.size() >= LIMIT) return init;
+		final var last = POOL.putIfAbsent(value, init);
+		return last != null? last: init;
 	}
 
 	/**
@@ -53,7 +86,19 @@ public final class Call extends Qxsl<String> {
 	 * @return 呼出符号
 	 */
 	public final String strip() {
-		return value().split("/", 2)[0];
+		return base;
+	}
+
+	/**
+	 * 斜線より後の部分文字列を返します。
+	 *
+	 *
+	 * @return 斜線より後の部分 または斜線がなければnull
+	 *
+	 * @since 2026/10/17
+	 */
+	public final String suffix() {
+		return suffix;
 	}
 
 	/**
@@ -67,11 +112,33 @@ public final class Call extends Qxsl<String> {
 	 * @since 2020/10/12
 	 */
 	public static final boolean isValid(String call) {
-		return normalize(call).matches(PATTERN);
+		final var value = normalize(call);
+		int slash = -1;
+		for(int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if(c == '/' && slash < 0 && i > 0) slash = i;
+			else if(!isWord(c)) return false;
+		}
+		return !value.isEmpty() && slash != value.length() - 1;
+	}
+
+	/**
+	 * 指定された文字が英数字または下線であるかを確認します。
+	 *
+	 *
+	 * @param c 文字
+	 *
+	 * @return 英数字または下線の場合は真
+	 */
+	private static final boolean isWord(char c) {
+		if(c >= 'A' && c <= 'Z') return true;
+		if(c >= 'a' && c <= 'z') return true;
+		return c >= '0' && c <= '9' || c == '_';
 	}
 
 	/**
 	 * 指定された呼出符号を正規形の文字列に変換します。
+	 * ASCII文字のみの場合は、互換分解を省略します。
 	 *
 	 *
 	 * @param call 呼出符号
@@ -81,6 +148,40 @@ public final class Call extends Qxsl<String> {
 	 * @since 2020/10/12
 	 */
 	public static final String normalize(String call) {
-		return Normalizer.normalize(call.toUpperCase(), NFKC);
+		boolean lower = false;
+		for(int i = 0; i < call.length(); i++) {
+			final char c = call.charAt(i);
+			if(c >= 0x80) return Normalizer.normalize(call.toUpperCase(), NFKC);
+			if(c >= 'a' && c <= 'z') lower = true;
+		}
+		return lower? call.toUpperCase(): call;
+	}
+
+	/**
+	 * 属性値のハッシュ値を返します。
+	 *
+	 *
+	 * @return ハッシュ値
+	 */
+	@Override
+	public final int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * 指定されたオブジェクトと等値であるか確認します。
+	 * 共有の属性同士は参照により比較されます。
+	 *
+	 *
+	 * @param obj 比較するオブジェクト
+	 *
+	 * @return この属性と等しい場合true
+	 */
+	@Override
+	public final boolean equals(Object obj) {
+		if(obj == this) return true;
+		if(!(obj instanceof Call)) return false;
+		final var call = (Call) obj;
+		return hash == call.hash && value.equals(call.value);
 	}
 }
@@ -5,6 +5,10 @@
 *******************************************************************************/
 package qxsl.draft;
 
+import java.lang.ref.WeakReference;
+
+import qxsl.local.LocalCityBase;
+import qxsl.local.LocalCityItem;
 import qxsl.value.Tuple;
 
 /**
@@ -16,6 +20,8 @@ import qxsl.value.Tuple;
  * @since 2013/06/09
  */
 public final class Code extends Qxsl<String> {
+	private volatile Cities cities;
+
 	/**
 	 * 交換番号を指定して属性を構築します。
 	 *
@@ -39,4 +45,77 @@ public final class Code extends Qxsl<String> {
 	public static final Code from(Tuple tuple) {
 		return (Code) tuple.get(Qxsl.CODE);
 	}
+
+	/**
+	 * 指定されたデータベースで交換番号に対応する地域を返します。
+	 * 結果は属性毎に保持され、共有された属性の間で再利用されます。
+	 *
+	 *
+	 * @param base データベース
+	 *
+	 * @return 地域 または存在しない場合はnull
+	 *
+	 * @since 2026/10/17
+	 */
+	public final LocalCityItem city(LocalCityBase base) {
+		return cities(base).city;
+	}
+
+	/**
+	 * 指定されたデータベースで交換番号の地域を含む最大の区画を返します。
+	 * 結果は属性毎に保持され、共有された属性の間で再利用されます。
+	 *
+	 *
+	 * @param base データベース
+	 *
+	 * @return 最大の区画 または存在しない場合はnull
+	 *
+	 * @since 2026/10/17
+	 */
+	public final LocalCityItem area(LocalCityBase base) {
+		return cities(base).area;
+	}
+
+	/**
+	 * 指定されたデータベースに対する検索結果を返します。
+	 * 直前と異なるデータベースの場合は検索し直します。
+	 *
+	 *
+	 * @param base データベース
+	 *
+	 * @return 検索結果
+	 */
+	private final Cities cities(LocalCityBase base) {
+		final var last = this.cities;
+		if(last != null && last.base.get() == base) return last;
+		return this.cities = new Cities(base, value);
+	}
+
+	/**
+	 * 交換番号に対応する地域の検索結果です。
+	 * データベースは弱参照で保持され、属性が破棄を妨げることはありません。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final class Cities {
+		private final WeakReference<LocalCityBase> base;
+		private final LocalCityItem city;
+		private final LocalCityItem area;
+
+		/**
+		 * 指定されたデータベースで交換番号を検索します。
+		 *
+		 *
+		 * @param base データベース
+		 * @param code 交換番号
+		 */
+		private Cities(LocalCityBase base, String code) {
+			this.base = new WeakReference<>(base);
+			this.city = base.getByCode(code);
+			this.area = city != null? base.getByName(city.area()): null;
+		}
+	}
 }
@@ -5,8 +5,12 @@
 *******************************************************************************/
 package qxsl.draft;
 
+import java.util.regex.Pattern;
+
 import qxsl.value.Tuple;
 
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+
 /**
  * 交信の通信方式を表す属性の実装です。
  *
@@ -16,6 +20,14 @@ import qxsl.value.Tuple;
  * @since 2013/06/08
  */
 public final class Mode extends Qxsl<String> {
+	private static final Pattern MORSE = Pattern.compile("CW", CASE_INSENSITIVE);
+	private static final Pattern PHONE = Pattern.compile("PH|AM|FM|[DS]SB", CASE_INSENSITIVE);
+	private static final Pattern DIGIT = Pattern.compile("DG|FT4|FT8|RTTY", CASE_INSENSITIVE);
+	private static final int IS_MORSE = 1;
+	private static final int IS_PHONE = 2;
+	private static final int IS_DIGIT = 4;
+	private static final int RESOLVED = 8;
+	private int kind;
 	/**
 	 * 通信方式を指定して属性を構築します。
 	 *
@@ -50,6 +62,100 @@ public final class Mode extends Qxsl<String> {
 		return value.equals("RTTY");
 	}
 
+	/**
+	 * 通信方式が電信の分類に属するか確認します。
+	 *
+	 *
+	 * @return 電信の場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public final boolean isMorse() {
+		return (kind() & IS_MORSE) != 0;
+	}
+
+	/**
+	 * 通信方式が電話の分類に属するか確認します。
+	 *
+	 *
+	 * @return 電話の場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public final boolean isPhone() {
+		return (kind() & IS_PHONE) != 0;
+	}
+
+	/**
+	 * 通信方式がデジタルの分類に属するか確認します。
+	 *
+	 *
+	 * @return デジタルの場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public final boolean isDigit() {
+		return (kind() & IS_DIGIT) != 0;
+	}
+
+	/**
+	 * 指定された通信方式が電信の分類に属するか確認します。
+	 *
+	 *
+	 * @param mode 通信方式
+	 *
+	 * @return 電信の場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final boolean isMorse(String mode) {
+		return MORSE.matcher(mode).matches();
+	}
+
+	/**
+	 * 指定された通信方式が電話の分類に属するか確認します。
+	 *
+	 *
+	 * @param mode 通信方式
+	 *
+	 * @return 電話の場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final boolean isPhone(String mode) {
+		return PHONE.matcher(mode).matches();
+	}
+
+	/**
+	 * 指定された通信方式がデジタルの分類に属するか確認します。
+	 *
+	 *
+	 * @param mode 通信方式
+	 *
+	 * @return デジタルの場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public static final boolean isDigit(String mode) {
+		return DIGIT.matcher(mode).matches();
+	}
+
+	/**
+	 * 通信方式の分類を返します。
+	 * 分類は属性毎に一度だけ判定され、共有された属性の間で再利用されます。
+	 *
+	 *
+	 * @return 分類のビット列
+	 */
+	private final int kind() {
+		if(kind != 0) return kind;
+		int bits = RESOLVED;
+		if(isMorse(value)) bits |= IS_MORSE;
+		if(isPhone(value)) bits |= IS_PHONE;
+		if(isDigit(value)) bits |= IS_DIGIT;
+		return this.kind = bits;
+	}
+
 	/**
 	 * 交信記録の通信方式を抽出します。
 	 *
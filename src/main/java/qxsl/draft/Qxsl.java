@@ -41,7 +41,7 @@ public abstract class Qxsl<V> extends Field<V> {
 	 * @return 属性の値
 	 */
 	@Override
-	public final V value() {
+	public V value() {
 		return value;
 	}
 
@@ -7,6 +7,7 @@ package qxsl.draft;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 import qxsl.value.Tuple;
@@ -16,6 +17,9 @@ import static java.time.temporal.ChronoUnit.MINUTES;
 
 /**
  * 交信の現地時刻を表す属性の実装です。
+ * 時刻は起点からの秒数と秒未満の端数と時間帯で保持され、
+ * 比較とハッシュ値の計算は整数値で行われます。
+ * {@link ZonedDateTime}は要求された時点で生成されます。
  *
  *
  * @author 無線部開発班
@@ -23,6 +27,11 @@ import static java.time.temporal.ChronoUnit.MINUTES;
  * @since 2013/06/08
  */
 public final class Time extends Qxsl<ZonedDateTime> {
+	private final long epoch;
+	private final int nanos;
+	private final ZoneId zone;
+	private ZonedDateTime local;
+
 	/**
 	 * 交信日時を指定して属性を構築します。
 	 *
@@ -30,7 +39,24 @@ public final class Time extends Qxsl<ZonedDateTime> {
 	 * @param time 交信日時
 	 */
 	public Time(ZonedDateTime time) {
-		super(TIME, time);
+		this(time.toEpochSecond(), time.getNano(), time.getZone());
+	}
+
+	/**
+	 * 起点からの秒数と時間帯を指定して属性を構築します。
+	 *
+	 *
+	 * @param epoch 1970年1月1日からの秒数
+	 * @param nanos 秒未満の端数のナノ秒
+	 * @param zone 時間帯
+	 *
+	 * @since 2026/10/17
+	 */
+	public Time(long epoch, int nanos, ZoneId zone) {
+		super(TIME, null);
+		this.epoch = epoch;
+		this.nanos = nanos;
+		this.zone = zone;
 	}
 
 	/**
@@ -40,7 +66,7 @@ public final class Time extends Qxsl<ZonedDateTime> {
 	 * @param time 交信日時
 	 */
 	public Time(Instant time) {
-		this(time.atZone(systemDefault()));
+		this(time.getEpochSecond(), time.getNano(), systemDefault());
 	}
 
 	/**
@@ -53,6 +79,86 @@ public final class Time extends Qxsl<ZonedDateTime> {
 		this(time.atZone(systemDefault()));
 	}
 
+	/**
+	 * この属性の値を返します。
+	 * 初回の呼び出し時に日時を生成します。
+	 *
+	 *
+	 * @return 交信日時
+	 */
+	@Override
+	public final ZonedDateTime value() {
+		final var time = this.local;
+		if(time != null) return time;
+		return this.local = ZonedDateTime.ofInstant(toInstant(), zone);
+	}
+
+	/**
+	 * 1970年1月1日からの秒数を返します。
+	 *
+	 *
+	 * @return 秒数
+	 *
+	 * @since 2026/10/17
+	 */
+	public final long toEpochSecond() {
+		return epoch;
+	}
+
+	/**
+	 * 秒未満の端数をナノ秒で返します。
+	 *
+	 *
+	 * @return ナノ秒
+	 *
+	 * @since 2026/10/17
+	 */
+	public final int getNano() {
+		return nanos;
+	}
+
+	/**
+	 * この日時の時間帯を返します。
+	 *
+	 *
+	 * @return 時間帯
+	 *
+	 * @since 2026/10/17
+	 */
+	public final ZoneId zone() {
+		return zone;
+	}
+
+	/**
+	 * この日時を瞬間に変換します。
+	 *
+	 *
+	 * @return 瞬間
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Instant toInstant() {
+		return Instant.ofEpochSecond(epoch, nanos);
+	}
+
+	/**
+	 * 指定された時間帯における時を返します。
+	 * 日時を生成せずに整数演算で計算します。
+	 *
+	 *
+	 * @param zone 時間帯
+	 *
+	 * @return 0から23までの時
+	 *
+	 * @since 2026/10/17
+	 */
+	public final int hour(ZoneId zone) {
+		final var rules = zone.getRules();
+		final var at = rules.isFixedOffset()? Instant.EPOCH: toInstant();
+		final long secs = epoch + rules.getOffset(at).getTotalSeconds();
+		return (int) (Math.floorMod(secs, 86400L) / 3600);
+	}
+
 	/**
 	 * 交信記録の時刻を抽出します。
 	 *
@@ -88,7 +194,7 @@ public final class Time extends Qxsl<ZonedDateTime> {
 	 * @since 2020/10/28
 	 */
 	public final Time ofYear(int year) {
-		return new Time(value.withYear(year));
+		return new Time(value().withYear(year));
 	}
 
 	/**
@@ -100,7 +206,7 @@ public final class Time extends Qxsl<ZonedDateTime> {
 	 * @since 2020/10/28
 	 */
 	public final Time copyDropSecond() {
-		return new Time(value.truncatedTo(MINUTES));
+		return new Time(value().truncatedTo(MINUTES));
 	}
 
 	/**
@@ -110,7 +216,7 @@ public final class Time extends Qxsl<ZonedDateTime> {
 	 * @return 現地時刻
 	 */
 	public final ZonedDateTime local() {
-		return value.withZoneSameInstant(systemDefault());
+		return ZonedDateTime.ofInstant(toInstant(), systemDefault());
 	}
 
 	/**
@@ -124,6 +230,18 @@ public final class Time extends Qxsl<ZonedDateTime> {
 	@Override
 	public final boolean equals(Object obj) {
 		if(!Time.class.isInstance(obj)) return false;
-		else return value.isEqual(((Time) obj).value);
+		final var time = (Time) obj;
+		return epoch == time.epoch && nanos == time.nanos;
+	}
+
+	/**
+	 * 属性値のハッシュ値を計算します。
+	 *
+	 *
+	 * @return ハッシュ値
+	 */
+	@Override
+	public final int hashCode() {
+		return 31 * Long.hashCode(epoch) + nanos;
 	}
 }
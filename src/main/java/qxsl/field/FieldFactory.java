@@ -36,6 +36,22 @@ public interface FieldFactory {
 	 */
 	public Field decode(String value);
 
+	/**
+	 * 指定された値から属性値の実体を構築します。
+	 * 既定では文字列に変換して{@link #decode(String)}で読み取ります。
+	 * 値の型が既知の書式は、文字列を経由せずに構築できます。
+	 *
+	 *
+	 * @param value 属性値
+	 *
+	 * @return 生成された属性値
+	 *
+	 * @since 2026/10/17
+	 */
+	public default Field of(Object value) {
+		return decode(value.toString());
+	}
+
 	/**
 	 * 指定された属性値を文字列に変換します。
 	 *
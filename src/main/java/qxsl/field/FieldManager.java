@@ -5,17 +5,25 @@
 *******************************************************************************/
 package qxsl.field;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.namespace.QName;
 
 import qxsl.value.Field;
+import qxsl.value.Symbols;
 import qxsl.value.Tuple;
 
 /**
  * 属性の書式をクラスパスから自動的に検出して管理します。
+ * 書式は構築時に一度だけ検出され、属性名により索引されます。
+ * このクラスとキャッシュはスレッドセーフであり、
+ * 複数の交信記録の読み取りで属性値を共有できます。
  *
  *
  * @author 無線部開発班
@@ -23,8 +31,11 @@ import qxsl.value.Tuple;
  * @since 2013/06/08
  */
 public final class FieldManager implements Iterable<FieldFactory> {
-	private final ServiceLoader<FieldFactory> list;
-	private final Map<QName, Cache> caches;
+	private static final int LIMIT = 0x10000;
+	private final List<FieldFactory> list;
+	private final Map<QName, FieldFactory> table;
+	private final Map<QName, Cache> others;
+	private volatile Cache[] caches;
 
 	/**
 	 * デフォルトのクラスパスを参照するインスタンスです。
@@ -48,8 +59,14 @@ public final class FieldManager implements Iterable<FieldFactory> {
 	 * @param cl 書式を検出するクラスローダ
 	 */
 	public FieldManager(ClassLoader cl) {
-		this.list = ServiceLoader.load(FieldFactory.class, cl);
-		this.caches = new HashMap<>();
+		this.list = new ArrayList<>();
+		this.table = new HashMap<>();
+		this.caches = new Cache[0];
+		this.others = new ConcurrentHashMap<>();
+		for(var f: ServiceLoader.load(FieldFactory.class, cl)) {
+			this.list.add(f);
+			this.table.putIfAbsent(f.target(), f);
+		}
 	}
 
 	/**
@@ -72,8 +89,7 @@ public final class FieldManager implements Iterable<FieldFactory> {
 	 * @return 対応する書式 またはnull
 	 */
 	public FieldFactory factory(QName name) {
-		for(var f: list) if(f.target().equals(name)) return f;
-		return null;
+		return table.get(name);
 	}
 
 	/**
@@ -119,11 +135,37 @@ public final class FieldManager implements Iterable<FieldFactory> {
 	 */
 	public void set(Tuple tuple, QName qname, Object value) {
 		if(value == null) tuple.remove(qname);
-		else tuple.set(decode(qname, value.toString()));
+		else tuple.set(field(qname, value));
+	}
+
+	/**
+	 * 指定された値と名前を持つ属性値を取得します。
+	 * 同じ名前の属性はそのまま返し、値の型が既知の場合は、
+	 * 文字列を経由せずに属性値を構築します。
+	 *
+	 *
+	 * @param qname 属性の名前
+	 * @param value 属性値または属性
+	 *
+	 * @return 属性値
+	 *
+	 * @since 2026/10/17
+	 */
+	public Field field(QName qname, Object value) {
+		if(value instanceof Field) {
+			final var field = (Field) value;
+			if(!field.isAny() && field.name().equals(qname)) return field;
+			value = field.value();
+		}
+		final var format = factory(qname);
+		if(format != null) return format.of(value);
+		return new Any(qname, value.toString());
 	}
 
 	/**
 	 * 指定された属性名に対する{@link Cache}を返します。
+	 * {@link Symbols}に未登録の名前のキャッシュは、個数が上限に達すると、
+	 * 以降の未登録の名前に対して共有されないキャッシュを返します。
 	 *
 	 *
 	 * @param qname 属性の名前
@@ -131,7 +173,64 @@ public final class FieldManager implements Iterable<FieldFactory> {
 	 * @return キャッシュ
 	 */
 	public final Cache cache(QName qname) {
-		return caches.computeIfAbsent(qname, Cache::new);
+		final int id = Symbols.id(qname);
+		if(id == Symbols.UNKNOWN) return other(qname);
+		final var table = this.caches;
+		if(id < table.length && table[id] != null) return table[id];
+		return create(id, qname);
+	}
+
+	/**
+	 * 指定された番号の属性名に対する{@link Cache}を返します。
+	 *
+	 *
+	 * @param id {@link Symbols}による属性名の番号
+	 *
+	 * @return キャッシュ
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Cache cache(int id) {
+		final var table = this.caches;
+		if(id < table.length && table[id] != null) return table[id];
+		return create(id, Symbols.name(id));
+	}
+
+	/**
+	 * {@link Symbols}に未登録の属性名に対する{@link Cache}を返します。
+	 *
+	 *
+	 * @param qname 属性の名前
+	 *
+	 * @return キャッシュ
+	 *
+	 * @since 2026/10/17
+	 */
+	private final Cache other(QName qname) {
+		final var cache = others.get(qname);
+		if(cache != null) return cache;
+		if(others.size() >= LIMIT) return new Cache(qname);
+		return others.computeIfAbsent(qname, Cache::new);
+	}
+
+	/**
+	 * 指定された属性名に対する{@link Cache}を登録します。
+	 * 索引は複製して置換されるため、同期せずに参照できます。
+	 *
+	 *
+	 * @param id 属性名の番号
+	 * @param qname 属性の名前
+	 *
+	 * @return キャッシュ
+	 *
+	 * @since 2026/10/17
+	 */
+	private synchronized Cache create(int id, QName qname) {
+		if(id < caches.length && caches[id] != null) return caches[id];
+		final var table = Arrays.copyOf(caches, Math.max(id + 1, caches.length));
+		final var cache = table[id] = new Cache(qname);
+		this.caches = table;
+		return cache;
 	}
 
 	/**
@@ -166,15 +265,20 @@ public final class FieldManager implements Iterable<FieldFactory> {
 
 	/**
 	 * 特定の属性名を持つ属性に特化したキャッシュ機構です。
+	 * 属性値は文字列の内容による開番地法の索引で保持されます。
+	 * 複数のスレッドから共有でき、保持する属性値の個数は上限を超えません。
+	 * 上限に達した後の未知の値は、保持せずに都度生成されます。
 	 *
 	 *
 	 * @author 無線部開発班
 	 *
 	 * @since 2019/06/26
 	 */
-	public final class Cache extends HashMap<String, Field> {
+	public final class Cache {
 		private final FieldFactory format;
 		private final QName qname;
+		private volatile Slot[] table;
+		private int count;
 
 		/**
 		 * 指定された属性に特化するキャッシュを構築します。
@@ -184,6 +288,7 @@ public final class FieldManager implements Iterable<FieldFactory> {
 		 */
 		private Cache(QName qname) {
 			this.format = factory(this.qname = qname);
+			this.table = new Slot[16];
 		}
 
 		/**
@@ -223,7 +328,145 @@ public final class FieldManager implements Iterable<FieldFactory> {
 		 * @return 属性値
 		 */
 		public Field field(String value) {
-			return computeIfAbsent(value, this::createField);
+			return field((CharSequence) value);
+		}
+
+		/**
+		 * 指定された値の属性を取得します。
+		 * 文字列の内容により検索するため、既知の値の場合は、
+		 * 文字列を生成せずに属性値を返します。
+		 *
+		 *
+		 * @param value 属性値を表す文字列
+		 *
+		 * @return 属性値
+		 *
+		 * @since 2026/10/17
+		 */
+		public Field field(CharSequence value) {
+			final int hash = hash(value);
+			final var table = this.table;
+			final int mask = table.length - 1;
+			for(int idx = hash & mask;; idx = (idx + 1) & mask) {
+				final var slot = table[idx];
+				if(slot == null) break;
+				if(slot.matches(hash, value)) return slot.item;
+			}
+			final var text = value.toString();
+			return insert(hash, text, createField(text));
+		}
+
+		/**
+		 * 保持している属性値の個数を返します。
+		 *
+		 *
+		 * @return 属性値の個数
+		 *
+		 * @since 2026/10/17
+		 */
+		public synchronized int size() {
+			return count;
+		}
+
+		/**
+		 * 索引に未登録の属性値を登録します。
+		 * 他のスレッドが登録済みの場合は、登録済みの属性値を返します。
+		 * 索引が上限に達した場合は登録せずに属性値を返します。
+		 *
+		 *
+		 * @param hash ハッシュ値
+		 * @param text 属性値を表す文字列
+		 * @param item 生成された属性値
+		 *
+		 * @return 属性値
+		 *
+		 * @since 2026/10/17
+		 */
+		private synchronized Field insert(int hash, String text, Field item) {
+			final var table = this.table;
+			final int mask = table.length - 1;
+			int idx = hash & mask;
+			for(Slot slot; (slot = table[idx]) != null; idx = (idx + 1) & mask) {
+				if(slot.matches(hash, text)) return slot.item;
+			}
+			if(count >= LIMIT) return item;
+			table[idx] = new Slot(text, item);
+			if(++count * 2 > table.length) rehash();
+			return item;
+		}
+
+		/**
+		 * 文字列の内容による索引の容量を倍増させます。
+		 * 読み取り中のスレッドは、置換前の索引を参照し続けます。
+		 *
+		 *
+		 * @since 2026/10/17
+		 */
+		private void rehash() {
+			final var prev = this.table;
+			final var next = new Slot[prev.length * 2];
+			final int mask = next.length - 1;
+			for(var slot: prev) if(slot != null) {
+				int idx = slot.text.hashCode() & mask;
+				while(next[idx] != null) idx = (idx + 1) & mask;
+				next[idx] = slot;
+			}
+			this.table = next;
+		}
+
+		/**
+		 * 指定された文字列の{@link String#hashCode()}と等価な値を計算します。
+		 *
+		 *
+		 * @param value 文字列
+		 *
+		 * @return ハッシュ値
+		 *
+		 * @since 2026/10/17
+		 */
+		private int hash(CharSequence value) {
+			int hash = 0;
+			for(int i = 0; i < value.length(); i++) hash = 31 * hash + value.charAt(i);
+			return hash;
+		}
+	}
+
+	/**
+	 * 文字列の内容による索引に登録された属性値です。
+	 * 不変であるため、同期せずに他のスレッドから参照できます。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final class Slot {
+		private final String text;
+		private final Field item;
+
+		/**
+		 * 指定された文字列と属性値を登録します。
+		 *
+		 *
+		 * @param text 属性値を表す文字列
+		 * @param item 属性値
+		 */
+		private Slot(String text, Field item) {
+			this.text = text;
+			this.item = item;
+		}
+
+		/**
+		 * 指定された文字列と内容が等しいか確認します。
+		 *
+		 *
+		 * @param hash ハッシュ値
+		 * @param value 文字列
+		 *
+		 * @return 等しい場合は真
+		 */
+		private final boolean matches(int hash, CharSequence value) {
+			return text.hashCode() == hash && text.contentEquals(value);
 		}
 	}
 }
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import qxsl.value.Field;
+import qxsl.value.Symbols;
+
+/**
+ * 複数の要素で共有される不変の属性の配列です。
+ * 内容の等しい配列はプロセス全体で一個の実体に集約されます。
+ * 集約する配列の個数は上限を超えません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+final class Contents {
+	private static final Map<Contents, Contents> POOL = new ConcurrentHashMap<>();
+	private static final int LIMIT = 0x10000;
+	final Field[] items;
+	final int hash;
+
+	/**
+	 * 名前の番号の順に整列した属性の配列を複製して構築します。
+	 *
+	 *
+	 * @param items 属性の配列
+	 * @param size 属性の個数
+	 * @param hash 要素のハッシュ値
+	 */
+	private Contents(Field[] items, int size, int hash) {
+		this.items = Arrays.copyOf(items, size);
+		this.hash = hash;
+	}
+
+	/**
+	 * 指定された属性の配列と内容の等しい共有の配列を返します。
+	 * 上限に達した場合は、未登録の配列に限りnullを返します。
+	 *
+	 *
+	 * @param items 名前の番号の順に整列した属性の配列
+	 * @param size 属性の個数
+	 * @param hash 要素のハッシュ値
+	 *
+	 * @return 共有の配列 またはnull
+	 */
+	static final Contents intern(Field[] items, int size, int hash) {
+		final var made = new Contents(items, size, hash);
+		final var prev = POOL.get(made);
+		if(prev != null) return prev;
+		if(POOL.size() >= LIMIT) return null;
+		final var last = POOL.putIfAbsent(made, made);
+		return last != null? last: made;
+	}
+
+	@Override
+	public final int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public final boolean equals(Object obj) {
+		if(!(obj instanceof Contents)) return false;
+		final var other = ((Contents) obj).items;
+		if(items.length != other.length) return false;
+		for(int i = 0; i < items.length; i++) {
+			final var key = other[i];
+			if(Symbols.compare(items[i], key.id(), key.name()) != 0) return false;
+			if(!items[i].equals(key)) return false;
+		}
+		return true;
+	}
+}
@@ -68,6 +68,21 @@ public final class Item extends Tuple {
 		return sent;
 	}
 
+	/**
+	 * 送信と受信の情報を内容の等しい他の交信記録と共有します。
+	 * 共有された情報は、変更時に複製されます。
+	 *
+	 *
+	 * @return この交信記録
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Item share() {
+		this.rcvd.share();
+		this.sent.share();
+		return this;
+	}
+
 	/**
 	 * この要素のハッシュ値を計算します。
 	 *
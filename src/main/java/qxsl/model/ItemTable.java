@@ -0,0 +1,561 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.model;
+
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import javax.xml.namespace.QName;
+
+import qxsl.draft.Time;
+import qxsl.value.Field;
+import qxsl.value.Symbols;
+import qxsl.value.Tuple;
+
+/**
+ * 交信記録の集合を属性毎の列として格納する表です。
+ * 各列は属性値を辞書に登録して、行毎には整数の番号のみを保持します。
+ * 交信日時の列は、時刻と時間帯を整数として保持します。
+ * 表は{@link Item}の列として参照でき、参照の度に交信記録を生成します。
+ * 生成された交信記録の変更は、表に反映されません。
+ * このクラスはスレッドセーフではありません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class ItemTable extends AbstractList<Item> implements RandomAccess {
+	private static final int BOTH = 0;
+	private static final int RCVD = 1;
+	private static final int SENT = 2;
+	private final Column[][] parts;
+	private final List<Map<QName, Column>> others;
+	private final List<Column> columns;
+	private int capacity;
+	private int size;
+
+	/**
+	 * 空の表を構築します。
+	 */
+	public ItemTable() {
+		this.parts = new Column[3][0];
+		this.others = List.of(new HashMap<>(), new HashMap<>(), new HashMap<>());
+		this.columns = new ArrayList<>();
+		this.capacity = 16;
+	}
+
+	/**
+	 * 指定された交信記録を格納する表を構築します。
+	 *
+	 *
+	 * @param items 交信記録
+	 */
+	public ItemTable(Collection<Item> items) {
+		this();
+		this.addAll(items);
+	}
+
+	/**
+	 * 表の行数を返します。
+	 *
+	 *
+	 * @return 行数
+	 */
+	@Override
+	public final int size() {
+		return size;
+	}
+
+	/**
+	 * 指定された行の交信記録を生成します。
+	 *
+	 *
+	 * @param row 行番号
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws IndexOutOfBoundsException 範囲外の場合
+	 */
+	@Override
+	public final Item get(int row) {
+		final var item = new Item();
+		for(var col: columns) {
+			final var field = col.get(checked(row));
+			if(field != null) part(item, col.part).set(field);
+		}
+		return item;
+	}
+
+	/**
+	 * 指定された交信記録を末尾の行に追加します。
+	 *
+	 *
+	 * @param item 交信記録
+	 *
+	 * @return 常に真
+	 */
+	@Override
+	public final boolean add(Item item) {
+		if(size == capacity) grow();
+		this.put(size++, item);
+		this.modCount++;
+		return true;
+	}
+
+	/**
+	 * 指定された行を指定された交信記録で置換します。
+	 *
+	 *
+	 * @param row 行番号
+	 * @param item 交信記録
+	 *
+	 * @return 置換前の交信記録
+	 *
+	 * @throws IndexOutOfBoundsException 範囲外の場合
+	 */
+	@Override
+	public final Item set(int row, Item item) {
+		final var prev = get(row);
+		for(var col: columns) col.put(row, null);
+		this.put(row, item);
+		return prev;
+	}
+
+	/**
+	 * 全ての行を削除します。
+	 * 列と辞書は維持されます。
+	 */
+	@Override
+	public final void clear() {
+		this.capacity = 16;
+		this.size = 0;
+		for(var col: columns) col.grow(0);
+		for(var col: columns) col.grow(capacity);
+		this.modCount++;
+	}
+
+	/**
+	 * 交信記録で送受信局間に共通の属性の列を返します。
+	 *
+	 *
+	 * @param key 属性の名前
+	 *
+	 * @return 列 またはnull
+	 */
+	public final Column getBoth(QName key) {
+		return column(BOTH, Symbols.id(key), key);
+	}
+
+	/**
+	 * 相手局から受信した属性の列を返します。
+	 *
+	 *
+	 * @param key 属性の名前
+	 *
+	 * @return 列 またはnull
+	 */
+	public final Column getRcvd(QName key) {
+		return column(RCVD, Symbols.id(key), key);
+	}
+
+	/**
+	 * 相手局まで送信した属性の列を返します。
+	 *
+	 *
+	 * @param key 属性の名前
+	 *
+	 * @return 列 またはnull
+	 */
+	public final Column getSent(QName key) {
+		return column(SENT, Symbols.id(key), key);
+	}
+
+	/**
+	 * 指定された番号の行番号を検査します。
+	 *
+	 *
+	 * @param row 行番号
+	 *
+	 * @return 行番号
+	 *
+	 * @throws IndexOutOfBoundsException 範囲外の場合
+	 */
+	private final int checked(int row) {
+		if(row >= 0 && row < size) return row;
+		throw new IndexOutOfBoundsException(row);
+	}
+
+	/**
+	 * 指定された交信記録の指定された部分を返します。
+	 *
+	 *
+	 * @param item 交信記録
+	 * @param part 部分の番号
+	 *
+	 * @return 部分
+	 */
+	private static final Tuple part(Item item, int part) {
+		switch(part) {
+			case RCVD: return item.getRcvd();
+			case SENT: return item.getSent();
+			default: return item.getBoth();
+		}
+	}
+
+	/**
+	 * 指定された交信記録の属性を指定された行に格納します。
+	 *
+	 *
+	 * @param row 行番号
+	 * @param item 交信記録
+	 */
+	private final void put(int row, Item item) {
+		for(var f: item.getBoth()) column(BOTH, f).put(row, f);
+		for(var f: item.getRcvd()) column(RCVD, f).put(row, f);
+		for(var f: item.getSent()) column(SENT, f).put(row, f);
+	}
+
+	/**
+	 * 指定された部分と名前の列を返します。
+	 * 名前が{@link Symbols}に未登録の場合は、名前で検索します。
+	 *
+	 *
+	 * @param part 部分の番号
+	 * @param id 属性の名前の番号
+	 * @param key 属性の名前
+	 *
+	 * @return 列 またはnull
+	 */
+	private final Column column(int part, int id, QName key) {
+		if(id == Symbols.UNKNOWN) return others.get(part).get(key);
+		final var cols = parts[part];
+		return id < cols.length? cols[id]: null;
+	}
+
+	/**
+	 * 指定された属性を格納する列を返します。
+	 * 列が存在しない場合は、属性の種類に適した列を生成します。
+	 *
+	 *
+	 * @param part 部分の番号
+	 * @param field 属性
+	 *
+	 * @return 列
+	 */
+	private final Column column(int part, Field field) {
+		final int id = field.id();
+		final var col = column(part, id, field.name());
+		if(col != null) return col;
+		final var cols = parts[part];
+		final var made = field instanceof Time? new Times(part): new Column(part);
+		if(id == Symbols.UNKNOWN) others.get(part).put(field.name(), made);
+		else if(id >= cols.length) parts[part] = Arrays.copyOf(cols, id + 1);
+		if(id != Symbols.UNKNOWN) parts[part][id] = made;
+		made.grow(capacity);
+		columns.add(made);
+		return made;
+	}
+
+	/**
+	 * 全ての列の容量を拡張します。
+	 */
+	private final void grow() {
+		this.capacity += capacity >> 1;
+		for(var col: columns) col.grow(capacity);
+	}
+
+	/**
+	 * 特定の属性を格納する列です。
+	 * 属性値は辞書に登録され、行毎に辞書の番号を保持します。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	public class Column {
+		private final Map<Field, Integer> index;
+		private final List<Field> values;
+		private final int part;
+		int[] codes;
+
+		/**
+		 * 指定された部分の列を構築します。
+		 *
+		 *
+		 * @param part 部分の番号
+		 */
+		private Column(int part) {
+			this.index = new HashMap<>();
+			this.values = new ArrayList<>();
+			this.codes = new int[0];
+			this.part = part;
+		}
+
+		/**
+		 * 列の容量を指定された行数に設定します。
+		 *
+		 *
+		 * @param capacity 行数
+		 */
+		void grow(int capacity) {
+			this.codes = Arrays.copyOf(codes, capacity);
+		}
+
+		/**
+		 * 指定された行の属性を返します。
+		 *
+		 *
+		 * @param row 行番号
+		 *
+		 * @return 属性 またはnull
+		 */
+		Field get(int row) {
+			final int code = codes[row];
+			return code > 0? values.get(code - 1): null;
+		}
+
+		/**
+		 * 指定された行に属性を格納します。
+		 *
+		 *
+		 * @param row 行番号
+		 * @param field 属性 またはnull
+		 */
+		void put(int row, Field field) {
+			this.codes[row] = field != null? code(field): 0;
+		}
+
+		/**
+		 * 指定された属性値を辞書に登録して番号を返します。
+		 *
+		 *
+		 * @param field 属性
+		 *
+		 * @return 番号
+		 */
+		final int code(Field field) {
+			final var code = index.get(field);
+			if(code != null) return code;
+			values.add(field);
+			index.put(field, values.size());
+			return values.size();
+		}
+
+		/**
+		 * 指定された行の属性を返します。
+		 *
+		 *
+		 * @param row 行番号
+		 *
+		 * @return 属性 またはnull
+		 *
+		 * @throws IndexOutOfBoundsException 範囲外の場合
+		 */
+		public final Field field(int row) {
+			return get(checked(row));
+		}
+
+		/**
+		 * 指定された条件を満たす属性を持つ行を選択します。
+		 * 条件は辞書の属性値毎に一度だけ評価されます。
+		 *
+		 *
+		 * @param cond 属性の条件
+		 *
+		 * @return 選択された行の集合
+		 */
+		public BitSet select(Predicate<? super Field> cond) {
+			final var hits = new BitSet();
+			for(int i = 0; i < values.size(); i++) {
+				if(cond.test(values.get(i))) hits.set(i + 1);
+			}
+			final var rows = new BitSet(size);
+			for(int row = 0; row < size; row++) {
+				if(codes[row] > 0 && hits.get(codes[row])) rows.set(row);
+			}
+			return rows;
+		}
+
+		/**
+		 * 属性値毎に出現する行数を集計します。
+		 * 属性が存在しない行は集計されません。
+		 *
+		 *
+		 * @return 属性値と行数の対応
+		 */
+		public Map<Field, Integer> histogram() {
+			final var counts = new int[values.size() + 1];
+			for(int row = 0; row < size; row++) if(codes[row] > 0) counts[codes[row]]++;
+			final var result = new LinkedHashMap<Field, Integer>();
+			for(int i = 0; i < values.size(); i++) {
+				if(counts[i + 1] > 0) result.put(values.get(i), counts[i + 1]);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * 交信日時を格納する列です。
+	 * 交信日時は、秒単位の時刻と秒未満の時刻と時間帯の番号で保持します。
+	 * 交信日時以外の属性値は辞書に登録されます。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	private final class Times extends Column {
+		private final Map<ZoneId, Integer> index;
+		private final List<ZoneId> zones;
+		private long[] epochs;
+		private int[] nanos;
+
+		/**
+		 * 指定された部分の列を構築します。
+		 *
+		 *
+		 * @param part 部分の番号
+		 */
+		private Times(int part) {
+			super(part);
+			this.index = new HashMap<>();
+			this.zones = new ArrayList<>();
+			this.epochs = new long[0];
+			this.nanos = new int[0];
+		}
+
+		@Override
+		final void grow(int capacity) {
+			super.grow(capacity);
+			this.epochs = Arrays.copyOf(epochs, capacity);
+			this.nanos = Arrays.copyOf(nanos, capacity);
+		}
+
+		@Override
+		final Field get(int row) {
+			final int code = codes[row];
+			if(code >= 0) return super.get(row);
+			return new Time(epochs[row], nanos[row], zones.get(-code - 1));
+		}
+
+		@Override
+		final void put(int row, Field field) {
+			if(field instanceof Time) {
+				final var time = (Time) field;
+				this.epochs[row] = time.toEpochSecond();
+				this.nanos[row] = time.getNano();
+				this.codes[row] = -zone(time.zone()) - 1;
+			} else super.put(row, field);
+		}
+
+		/**
+		 * 指定された時間帯を登録して番号を返します。
+		 *
+		 *
+		 * @param zone 時間帯
+		 *
+		 * @return 番号
+		 */
+		private final int zone(ZoneId zone) {
+			final var code = index.get(zone);
+			if(code != null) return code;
+			zones.add(zone);
+			index.put(zone, zones.size() - 1);
+			return zones.size() - 1;
+		}
+
+		/**
+		 * 交信日時の各行を、秒と秒未満と時間帯の番号が等しい組に分類します。
+		 * 属性値を復元せず、配列を直接走査します。
+		 *
+		 *
+		 * @return 行毎の組の最初の行番号 または交信日時以外の行は負数
+		 */
+		private final int[] groups() {
+			int cap = 2;
+			while(cap < size * 2) cap <<= 1;
+			final var table = new int[cap];
+			final var first = new int[size];
+			Arrays.fill(table, -1);
+			for(int row = 0; row < size; row++) {
+				first[row] = -1;
+				if(codes[row] >= 0) continue;
+				final long hash = (epochs[row] * 31 + nanos[row]) * 31 + codes[row];
+				int slot = (int) ((hash ^ hash >>> 32) * 0x9E3779B9L >>> 16) & (cap - 1);
+				while(table[slot] >= 0 && !same(table[slot], row)) slot = (slot + 1) & (cap - 1);
+				if(table[slot] < 0) table[slot] = row;
+				first[row] = table[slot];
+			}
+			return first;
+		}
+
+		/**
+		 * 指定された行の交信日時が秒と秒未満と時間帯で一致するか確認します。
+		 *
+		 *
+		 * @param a 行番号
+		 * @param b 行番号
+		 *
+		 * @return 一致する場合は真
+		 */
+		private final boolean same(int a, int b) {
+			if(epochs[a] != epochs[b] || nanos[a] != nanos[b]) return false;
+			return codes[a] == codes[b];
+		}
+
+		/**
+		 * 指定された条件を満たす属性を持つ行を選択します。
+		 * 交信日時は辞書に登録されないため、秒と秒未満と時間帯の番号の組で行を分類し、
+		 * 条件は組毎に一度だけ、復元した属性値に対して評価されます。
+		 *
+		 *
+		 * @param cond 属性の条件
+		 *
+		 * @return 選択された行の集合
+		 */
+		@Override
+		public final BitSet select(Predicate<? super Field> cond) {
+			final var rows = super.select(cond);
+			final var first = groups();
+			for(int row = 0; row < size; row++) {
+				if(first[row] == row && cond.test(get(row))) rows.set(row);
+				else if(first[row] >= 0 && rows.get(first[row])) rows.set(row);
+			}
+			return rows;
+		}
+
+		/**
+		 * 属性値毎に出現する行数を集計します。
+		 * 属性が存在しない行は集計されません。
+		 * 交信日時は、秒と秒未満と時間帯の番号の組毎に一度だけ属性値を復元します。
+		 *
+		 *
+		 * @return 属性値と行数の対応
+		 */
+		@Override
+		public final Map<Field, Integer> histogram() {
+			final var result = super.histogram();
+			final var first = groups();
+			final var counts = new int[size];
+			for(int row = 0; row < size; row++) if(first[row] >= 0) counts[first[row]]++;
+			for(int row = 0; row < size; row++) {
+				if(first[row] == row) result.merge(get(row), counts[row], Integer::sum);
+			}
+			return result;
+		}
+	}
+}
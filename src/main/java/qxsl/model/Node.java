@@ -5,17 +5,23 @@
 *******************************************************************************/
 package qxsl.model;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
 import javax.xml.namespace.QName;
 
 import qxsl.field.FieldManager;
 import qxsl.value.Field;
+import qxsl.value.Symbols;
 import qxsl.value.Tuple;
 
 /**
  * 交信記録の末端の要素を表現します。
+ * 属性は名前の番号の順に整列した配列に格納され、二分探索で検索されます。
+ * 番号が未登録の名前の属性は、名前の順に配列の末尾に格納されます。
+ * {@link #share()}により内容の等しい要素と配列を共有でき、
+ * 共有中の配列は変更時に複製されます。
  *
  *
  * @author 無線部開発班
@@ -23,7 +29,10 @@ import qxsl.value.Tuple;
  * @since 2013/06/15
  */
 public abstract class Node extends Tuple {
-	private final Map<QName, Field> table;
+	private static final Field[] EMPTY = new Field[0];
+	private Contents shared;
+	private Field[] items;
+	private int size;
 
 	/**
 	 * 指定された名前の要素を構築します。
@@ -33,7 +42,7 @@ public abstract class Node extends Tuple {
 	 */
 	public Node(QName name) {
 		super(name);
-		this.table = new HashMap<>();
+		this.items = EMPTY;
 	}
 
 	/**
@@ -44,7 +53,10 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final int hashCode() {
-		return table.hashCode();
+		if(shared != null) return shared.hash;
+		int hash = 0;
+		for(var f: this) hash += f.name().hashCode() ^ f.hashCode();
+		return hash;
 	}
 
 	/**
@@ -58,7 +70,15 @@ public abstract class Node extends Tuple {
 	@Override
 	public final boolean equals(Object obj) {
 		if(!getClass().isInstance(obj)) return false;
-		else return table.equals(((Node) obj).table);
+		final var node = (Node) obj;
+		if(shared != null && shared == node.shared) return true;
+		if(size != node.size) return false;
+		final var iter = node.iterator();
+		for(var f: this) {
+			final var g = iter.next();
+			if(Symbols.compare(f, g.id(), g.name()) != 0 || !f.equals(g)) return false;
+		}
+		return true;
 	}
 
 	/**
@@ -69,7 +89,9 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final String toString() {
-		return String.format("%s=%s", name(), table);
+		final var join = new StringJoiner(", ", "{", "}");
+		for(var f: this) join.add(String.format("%s=%s", f.name(), f));
+		return String.format("%s=%s", name(), join);
 	}
 
 	/**
@@ -80,7 +102,7 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final Iterator<Field> iterator() {
-		return this.table.values().iterator();
+		return new Fields();
 	}
 
 	/**
@@ -93,7 +115,7 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final boolean containsKey(QName key) {
-		return this.table.containsKey(key);
+		return find(Symbols.id(key), key) >= 0;
 	}
 
 	/**
@@ -106,7 +128,10 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final Tuple set(Field field) {
-		this.table.put(field.name(), field);
+		this.own();
+		final int idx = find(field.id(), field.name());
+		if(idx >= 0) items[idx] = field;
+		else insert(-idx - 1, field);
 		return this;
 	}
 
@@ -137,7 +162,12 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final Tuple remove(QName key) {
-		table.remove(key);
+		final int idx = find(Symbols.id(key), key);
+		if(idx < 0) return this;
+		this.own();
+		System.arraycopy(items, idx + 1, items, idx, size - idx - 1);
+		this.items[size - 1] = null;
+		this.size--;
 		return this;
 	}
 
@@ -151,7 +181,8 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final Field get(QName key) {
-		return table.get(key);
+		final int idx = find(Symbols.id(key), key);
+		return idx >= 0? items[idx]: null;
 	}
 
 	/**
@@ -163,7 +194,8 @@ public abstract class Node extends Tuple {
 	 * @return 属性なき場合は空の属性
 	 */
 	public final Field some(QName key) {
-		if(containsKey(key)) return table.get(key);
+		final var field = get(key);
+		if(field != null) return field;
 		return FieldManager.FIELDS.decode(key, "");
 	}
 
@@ -177,6 +209,113 @@ public abstract class Node extends Tuple {
 	 */
 	@Override
 	public final Object value(QName key) {
-		return containsKey(key)? get(key).value(): null;
+		final var field = get(key);
+		return field != null? field.value(): null;
+	}
+
+	/**
+	 * 内容の等しい要素と属性の配列を共有します。
+	 * 以降にこの要素を変更した場合は、配列を複製して変更します。
+	 *
+	 *
+	 * @return この要素
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Node share() {
+		if(shared != null) return this;
+		final var made = Contents.intern(items, size, hashCode());
+		if(made == null) return this;
+		this.items = made.items;
+		this.shared = made;
+		return this;
+	}
+
+	/**
+	 * 共有中の属性の配列を変更する前に複製します。
+	 *
+	 *
+	 * @since 2026/10/17
+	 */
+	private final void own() {
+		if(shared == null) return;
+		this.items = items.clone();
+		this.shared = null;
+	}
+
+	/**
+	 * 指定された番号と名前の属性の位置を返します。
+	 * 存在しない場合は、挿入するべき位置を符号化した負の値を返します。
+	 *
+	 *
+	 * @param id 属性の名前の番号
+	 * @param name 属性の名前
+	 *
+	 * @return 属性の位置
+	 *
+	 * @since 2026/10/17
+	 */
+	private final int find(int id, QName name) {
+		int lo = 0;
+		int hi = size - 1;
+		while(lo <= hi) {
+			final int mid = (lo + hi) >>> 1;
+			final int order = Symbols.compare(items[mid], id, name);
+			if(order < 0) lo = mid + 1;
+			else if(order > 0) hi = mid - 1;
+			else return mid;
+		}
+		return -(lo + 1);
+	}
+
+	/**
+	 * 指定された位置に属性を挿入します。
+	 *
+	 *
+	 * @param idx 挿入する位置
+	 * @param field 属性
+	 *
+	 * @since 2026/10/17
+	 */
+	private final void insert(int idx, Field field) {
+		if(size == items.length) grow(Math.max(4, size * 2));
+		System.arraycopy(items, idx, items, idx + 1, size - idx);
+		this.items[idx] = field;
+		this.size++;
+	}
+
+	/**
+	 * 属性を格納する配列を指定された長さに拡張します。
+	 *
+	 *
+	 * @param length 配列の長さ
+	 *
+	 * @since 2026/10/17
+	 */
+	private final void grow(int length) {
+		this.items = Arrays.copyOf(items, length);
+	}
+
+	/**
+	 * 属性を名前の番号の順に列挙する反復子です。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	private final class Fields implements Iterator<Field> {
+		private int count;
+
+		@Override
+		public final boolean hasNext() {
+			return count < size;
+		}
+
+		@Override
+		public final Field next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			return items[count++];
+		}
 	}
 }
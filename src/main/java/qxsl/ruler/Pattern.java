@@ -58,7 +58,24 @@ public abstract class Pattern extends Library {
 	 * @since 2020/10/25
 	 */
 	public final List<Item> normalize(List<Item> list, String type) {
-		return list.stream().map(i -> normalize(i, type)).collect(toList());
+		return normalize(list, type, false);
+	}
+
+	/**
+	 * 交信記録をライブラリが定義する標準構造に変換します。
+	 * 指定された場合は、変換後の交信記録に{@link Item#share()}を適用します。
+	 *
+	 *
+	 * @param list 交信記録
+	 * @param type 変換前の書式 nullを許容する
+	 * @param share 送受信の情報を共有する場合は真
+	 *
+	 * @return 標準的な構造の交信記録
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<Item> normalize(List<Item> list, String type, boolean share) {
+		return list.stream().map(i -> share(normalize(i, type), share)).collect(toList());
 	}
 
 	/**
@@ -73,6 +90,38 @@ public abstract class Pattern extends Library {
 	 * @since 2020/10/25
 	 */
 	public final List<Item> transform(List<Item> list, String type) {
-		return list.stream().map(i -> transform(i, type)).collect(toList());
+		return transform(list, type, false);
+	}
+
+	/**
+	 * 交信記録を指定された書式に適合する構造に変換します。
+	 * 指定された場合は、変換後の交信記録に{@link Item#share()}を適用します。
+	 *
+	 *
+	 * @param list 交信記録
+	 * @param type 変換後の書式
+	 * @param share 送受信の情報を共有する場合は真
+	 *
+	 * @return 書式に適合する交信記録
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<Item> transform(List<Item> list, String type, boolean share) {
+		return list.stream().map(i -> share(transform(i, type), share)).collect(toList());
+	}
+
+	/**
+	 * 指定された場合に交信記録の送受信の情報を共有します。
+	 *
+	 *
+	 * @param item 交信記録
+	 * @param share 共有する場合は真
+	 *
+	 * @return 交信記録
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final Item share(Item item, boolean share) {
+		return share && item != null? item.share(): item;
 	}
 }
@@ -7,6 +7,7 @@ package qxsl.table;
 
 import java.io.UncheckedIOException;
 import java.time.Year;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
@@ -150,4 +151,33 @@ public abstract class BasicFactory extends TableFactory {
 	public final DateTimeFormatter getTimeEncoder() {
 		return DateTimeFormatter.ofPattern(get("time-encoder"));
 	}
+
+	/**
+	 * この書式の入力時に使う時刻の解析器を返します。
+	 *
+	 *
+	 * @param zone 時間帯
+	 *
+	 * @return 時刻の解析器
+	 *
+	 * @since 2026/10/17
+	 */
+	public final TimeParser getTimeParser(ZoneId zone) {
+		return new TimeParser(get("time-decoder"), getTimeDecoder(), zone);
+	}
+
+	/**
+	 * この書式の入力時に使う時刻の解析器を返します。
+	 * 年を省略した書式は現在の年で補完されます。
+	 *
+	 *
+	 * @param zone 時間帯
+	 *
+	 * @return 時刻の解析器
+	 *
+	 * @since 2026/10/17
+	 */
+	public final TimeParser getTimeParserOld(ZoneId zone) {
+		return new TimeParser(get("time-decoder"), getTimeDecoderOld(), zone);
+	}
 }
@@ -8,7 +8,6 @@ package qxsl.table;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.LinkedList;
 
 /**
  * 文字列による交信記録を読み込むためのデコーダの共通実装です。
@@ -21,6 +20,9 @@ import java.util.LinkedList;
 public abstract class PrintDecoder extends TableDecoder {
 	private static final int AHEAD_LIMIT = 1000;
 	private final BufferedReader reader;
+	private Column[] views;
+	private int lines;
+	private int marked;
 
 	/**
 	 * 指定された入力を読み込むデコーダを構築します。
@@ -30,6 +32,7 @@ public abstract class PrintDecoder extends TableDecoder {
 	 */
 	public PrintDecoder(Reader reader) {
 		this.reader = new BufferedReader(reader);
+		this.views = new Column[0];
 	}
 
 	/**
@@ -51,6 +54,7 @@ public abstract class PrintDecoder extends TableDecoder {
 	 */
 	public final void reset() throws IOException {
 		reader.reset();
+		this.lines = marked;
 	}
 
 	/**
@@ -68,6 +72,24 @@ public abstract class PrintDecoder extends TableDecoder {
 		return (char) value;
 	}
 
+	/**
+	 * 指定された配列の指定された範囲に文字を読み取ります。
+	 *
+	 *
+	 * @param buf 文字を格納する配列
+	 * @param off 格納を開始する位置
+	 * @param len 最大文字数
+	 *
+	 * @return 読み取った文字数 または末尾の場合は-1
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final int read(char[] buf, int off, int len) throws IOException {
+		return reader.read(buf, off, len);
+	}
+
 	/**
 	 * 現在の位置を記憶してから改行文字まで読み取ります。
 	 *
@@ -78,7 +100,23 @@ public abstract class PrintDecoder extends TableDecoder {
 	 */
 	public final String readLine() throws IOException {
 		reader.mark(AHEAD_LIMIT);
-		return reader.readLine();
+		this.marked = lines;
+		final var line = reader.readLine();
+		if(line != null) lines++;
+		return line;
+	}
+
+	/**
+	 * {@link #readLine()}で読み取った行数を返します。
+	 * {@link #reset()}で戻した行は数えません。
+	 *
+	 *
+	 * @return 行数
+	 *
+	 * @since 2026/10/17
+	 */
+	final int lines() {
+		return lines;
 	}
 
 	/**
@@ -105,16 +143,103 @@ public abstract class PrintDecoder extends TableDecoder {
 	 * @throws IOException 読み取りに失敗した場合
 	 */
 	public final String[] split(int... cols) throws IOException {
-		final var list = new LinkedList<String>();
+		final var vals = slice(cols);
+		final var list = new String[vals.length];
+		for(int i = 0; i < vals.length; i++) list[i] = vals[i].toString();
+		return list;
+	}
+
+	/**
+	 * 改行文字まで読み取り、指定された位置で分割します。
+	 * 分割位置に非空白文字がある場合に例外を発生します。
+	 * 分割された文字列は、複製されずに行を参照する前後の空白を除いた範囲であり、
+	 * 次の呼び出しまで有効です。
+	 *
+	 *
+	 * @param cols 文字列を分割する位置
+	 *
+	 * @return 分割された文字列
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final CharSequence[] slice(int... cols) throws IOException {
+		if(views.length != cols.length - 1) views = Column.array(cols.length - 1);
 		final var line = this.readLine();
+		int size = 0;
 		for(int i = 1, j = 2; i < cols.length; i++, j++) {
 			final int head = Math.min(cols[i - 1], line.length());
 			final int last = Math.min(cols[i] - 1, line.length());
 			if(j < cols.length && line.charAt(last) != ' ') break;
-			list.add(line.substring(head, last).trim());
+			views[size++].set(line, head, last);
+		}
+		if(size != views.length) malform(line);
+		return views;
+	}
+
+	/**
+	 * 行の一部を複製せずに参照する文字列です。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final class Column implements CharSequence {
+		private String line;
+		private int head;
+		private int last;
+
+		/**
+		 * 指定された個数の文字列を生成します。
+		 *
+		 *
+		 * @param size 個数
+		 *
+		 * @return 文字列の配列
+		 */
+		private static final Column[] array(int size) {
+			final var array = new Column[size];
+			for(int i = 0; i < size; i++) array[i] = new Column();
+			return array;
+		}
+
+		/**
+		 * 指定された範囲から前後の空白を除いた範囲を参照します。
+		 *
+		 *
+		 * @param line 行
+		 * @param head 範囲の先頭
+		 * @param last 範囲の末尾
+		 */
+		private final void set(String line, int head, int last) {
+			while(head < last && line.charAt(head) <= ' ') head++;
+			while(last > head && line.charAt(last - 1) <= ' ') last--;
+			this.line = line;
+			this.head = head;
+			this.last = last;
+		}
+
+		@Override
+		public final int length() {
+			return last - head;
+		}
+
+		@Override
+		public final char charAt(int index) {
+			return line.charAt(head + index);
+		}
+
+		@Override
+		public final CharSequence subSequence(int head, int last) {
+			return line.subSequence(this.head + head, this.head + last);
+		}
+
+		@Override
+		public final String toString() {
+			return line.substring(head, last);
 		}
-		if(list.size() != cols.length - 1) malform(line);
-		return list.toArray(new String[cols.length - 1]);
 	}
 
 	/**
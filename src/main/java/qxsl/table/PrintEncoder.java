@@ -5,11 +5,19 @@
 *******************************************************************************/
 package qxsl.table;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+
+import qxsl.model.Item;
 
 /**
  * 文字列による交信記録を書き出すためのエンコーダの共通実装です。
+ * 出力は緩衝領域を経由し、既定では書き込みの完了時に一括で出力されます。
+ * 逐次的に監視される出力には、{@link #setFlushInterval(int)}で、
+ * 指定された行数毎に出力する方針を設定できます。
  *
  *
  * @author 無線部開発班
@@ -17,7 +25,10 @@ import java.io.Writer;
  * @since 2013/06/24
  */
 public abstract class PrintEncoder extends TableEncoder {
+	private static final int SIZE = 0x10000;
 	private final Writer writer;
+	private int interval;
+	private int lines;
 
 	/**
 	 * 指定された出力に書き込むエンコーダを構築します。
@@ -26,7 +37,78 @@ public abstract class PrintEncoder extends TableEncoder {
 	 * @param writer 交信記録を書き込む出力
 	 */
 	public PrintEncoder(Writer writer) {
-		this.writer = writer;
+		this.writer = new BufferedWriter(writer, SIZE);
+	}
+
+	/**
+	 * 緩衝領域を出力する行数の間隔を設定します。
+	 * 零の場合は、書き込みの完了時または解放時にのみ出力します。
+	 * 1の場合は、記録を監視する用途のために各行を直ちに出力します。
+	 *
+	 *
+	 * @param lines 行数の間隔
+	 *
+	 * @return このエンコーダ
+	 *
+	 * @throws IllegalArgumentException 負の値の場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final PrintEncoder setFlushInterval(int lines) {
+		if(lines < 0) throw new IllegalArgumentException();
+		this.interval = lines;
+		return this;
+	}
+
+	/**
+	 * ストリームに交信記録を書き込み、緩衝領域を出力します。
+	 *
+	 *
+	 * @param items 書き込む交信記録
+	 *
+	 * @throws IOException 書き込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final void encode(List<Item> items) throws IOException {
+		try {
+			super.encode(items);
+		} finally {
+			this.flush();
+		}
+	}
+
+	/**
+	 * ストリームに交信記録を逐次的に書き込み、緩衝領域を出力します。
+	 *
+	 *
+	 * @param items 書き込む交信記録
+	 *
+	 * @throws IOException 書き込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final void encode(Iterator<Item> items) throws IOException {
+		try {
+			super.encode(items);
+		} finally {
+			this.flush();
+		}
+	}
+
+	/**
+	 * 緩衝領域に蓄積された文字列を出力します。
+	 *
+	 *
+	 * @throws IOException 書き込みに失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final void flush() throws IOException {
+		this.lines = 0;
+		writer.flush();
 	}
 
 	/**
@@ -48,7 +130,7 @@ public abstract class PrintEncoder extends TableEncoder {
 	 */
 	public final void println() throws IOException {
 		writer.write(System.lineSeparator());
-		writer.flush();
+		if(interval > 0 && ++lines >= interval) flush();
 	}
 
 	/**
@@ -7,6 +7,16 @@ package qxsl.table;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Pattern;
+
+import qxsl.model.Item;
+
+import static java.util.regex.Pattern.DOTALL;
 
 /**
  * 印字可能な文字列で交信記録を表す書式の共通実装です。
@@ -17,6 +27,13 @@ import java.nio.charset.Charset;
  * @since 2020/09/05
  */
 public abstract class PrintFactory extends BasicFactory {
+	private static final int CHUNK = 0x1000;
+	private static final String PROLOG = "(?:<\\?.*?\\?>|<!--.*?-->|<!DOCTYPE[^>]*>)";
+	private static final String TAG = "<([^\\s/>?!][^\\s/>]*)";
+	private static final Pattern XML = Pattern.compile("^\\uFEFF?\\s*<");
+	private static final Pattern ROOT = Pattern.compile(
+		"^\\uFEFF?\\s*(?:" + PROLOG + "\\s*)*" + TAG, DOTALL
+	);
 	private final Charset cset;
 
 	/**
@@ -80,4 +97,247 @@ public abstract class PrintFactory extends BasicFactory {
 	public final TableEncoder encoder(OutputStream os) {
 		return encoder(new OutputStreamWriter(os, cset));
 	}
+
+	/**
+	 * この書式の文字セットを返します。
+	 *
+	 *
+	 * @return 文字セット
+	 *
+	 * @since 2026/10/17
+	 */
+	final Charset charset() {
+		return cset;
+	}
+
+	/**
+	 * この書式が冒頭を除く各行に1件の交信記録を記録するかを返します。
+	 * 真を返す書式は、各行を独立して読み取れる必要があります。
+	 *
+	 *
+	 * @return 行単位で並列に読み取れる場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	public boolean splittable() {
+		return false;
+	}
+
+	/**
+	 * 指定された文字列のうち完結した交信記録の末尾の位置を返します。
+	 * 行単位の書式の場合は、最後の改行文字の直後の位置を返します。
+	 * 追記中のファイルは、この位置までを読み取れば安全に読み取れます。
+	 *
+	 *
+	 * @param text 交信記録の文字列
+	 *
+	 * @return 完結した部分の文字数 または未対応の場合は-1
+	 *
+	 * @since 2026/10/17
+	 */
+	public int boundary(String text) {
+		return splittable()? text.lastIndexOf('\n') + 1: -1;
+	}
+
+	/**
+	 * 指定されたファイルに追記される交信記録を逐次的に読み取ります。
+	 *
+	 *
+	 * @param path 交信記録のファイル
+	 *
+	 * @return 追記を監視するリーダ
+	 *
+	 * @throws IOException 監視の開始に失敗した場合
+	 *
+	 * @throws UnsupportedOperationException 未対応の書式の場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final TableFollower follow(Path path) throws IOException {
+		return new TableFollower(path, this);
+	}
+
+	/**
+	 * 指定されたバイト列から交信記録を並列に読み取ります。
+	 *
+	 *
+	 * @param data 交信記録を読み込むバイト列
+	 * @param pool 交信記録を読み取るスレッドプール
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<Item> decode(byte[] data, ForkJoinPool pool) {
+		return decode(new String(data, cset), pool);
+	}
+
+	/**
+	 * 指定された文字列から交信記録を並列に読み取ります。
+	 * 冒頭を読み取った後の文字列を行の境界で分割して並列に読み取ります。
+	 * 行単位で分割できない書式の場合は逐次的に読み取ります。
+	 *
+	 *
+	 * @param data 交信記録を読み込む文字列
+	 * @param pool 交信記録を読み取るスレッドプール
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<Item> decode(String data, ForkJoinPool pool) {
+		if(!splittable()) return decode(data);
+		int from = 0;
+		try(final var coder = (PrintDecoder) decoder(data)) {
+			coder.head();
+			for(int n = coder.lines(); n > 0; n--) from = next(data, from);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		final int unit = 4 * pool.getParallelism();
+		final int size = Math.max(CHUNK, (data.length() - from + unit - 1) / unit);
+		final var tasks = new ArrayList<ForkJoinTask<List<Item>>>();
+		while(from < data.length()) {
+			final int head = from;
+			final int tail = from = next(data, Math.min(head + size, data.length()) - 1);
+			tasks.add(pool.submit(() -> decode(data, head, tail)));
+		}
+		final var list = new ArrayList<Item>();
+		try {
+			for(var task: tasks) list.addAll(task.join());
+		} catch (RuntimeException ex) {
+			for(var task: tasks) task.cancel(false);
+			throw ex;
+		}
+		return list;
+	}
+
+	/**
+	 * 指定された位置を含む行の次の行の先頭の位置を返します。
+	 * 行の区切りは{@link java.io.BufferedReader#readLine()}に従います。
+	 *
+	 *
+	 * @param data 文字列
+	 * @param from 位置
+	 *
+	 * @return 次の行の先頭の位置 または文字列の長さ
+	 *
+	 * @since 2026/10/17
+	 */
+	private static final int next(String data, int from) {
+		for(int i = from; i < data.length(); i++) {
+			final char c = data.charAt(i);
+			if(c == '\n') return i + 1;
+			if(c != '\r') continue;
+			final boolean crlf = i + 1 < data.length() && data.charAt(i + 1) == '\n';
+			return crlf? i + 2: i + 1;
+		}
+		return data.length();
+	}
+
+	/**
+	 * 冒頭を除いた交信記録の指定された範囲の行を読み取ります。
+	 *
+	 *
+	 * @param data 交信記録の文字列
+	 * @param head 範囲の先頭の位置
+	 * @param tail 範囲の末尾の位置
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	private final List<Item> decode(String data, int head, int tail) {
+		try(final var coder = decoder(data.substring(head, tail))) {
+			final var list = new ArrayList<Item>();
+			while(coder.hasNext()) list.add(coder.next());
+			return list;
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * 指定されたバイト列を文字列に変換して書式に従う可能性を評価します。
+	 * 印字可能な文字列はヌル文字を含まないため、ヌル文字を含む場合は非該当とします。
+	 *
+	 *
+	 * @param head 交信記録の冒頭のバイト列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	@Override
+	public final int detect(byte[] head) {
+		for(var b: head) if(b == 0) return 0;
+		return detect(new String(head, cset));
+	}
+
+	/**
+	 * 指定された文字列の冒頭から最初の交信記録と思しき行を返します。
+	 * 空白行と指定された接頭辞で始まる行は読み飛ばします。
+	 * 改行文字で終端されない行は切断された可能性があるため返しません。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 * @param skip 読み飛ばす行の接頭辞
+	 *
+	 * @return 最初の交信記録の行 または null
+	 *
+	 * @since 2026/10/17
+	 */
+	protected static final String sample(String head, String...skip) {
+		final var lines = head.split("\\R", -1);
+		scan: for(int i = 0; i < lines.length - 1; i++) {
+			if(lines[i].isBlank()) continue;
+			for(var s: skip) if(lines[i].startsWith(s)) continue scan;
+			return lines[i];
+		}
+		return null;
+	}
+
+	/**
+	 * 指定された行が指定された位置で分割可能か確認します。
+	 * 分割位置の条件は{@link PrintDecoder#split(int...)}に従います。
+	 *
+	 *
+	 * @param line 交信記録の行
+	 * @param cols 文字列を分割する位置
+	 *
+	 * @return 分割可能な場合は真
+	 *
+	 * @since 2026/10/17
+	 */
+	protected static final boolean fits(String line, int...cols) {
+		final int last = cols.length - 2;
+		if(line.length() < cols[last]) return false;
+		for(int i = 1; i <= last; i++) {
+			if(line.charAt(cols[i] - 1) != ' ') return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 指定された文字列の冒頭がXML文書として書式に従う可能性を評価します。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 * @param root 最上位の要素の名前
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	protected static final int detect(String head, String root) {
+		final var m = ROOT.matcher(head);
+		if(m.find()) return m.group(1).equals(root)? 3: 0;
+		return XML.matcher(head).find()? 1: 0;
+	}
 }
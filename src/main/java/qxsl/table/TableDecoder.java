@@ -6,10 +6,18 @@
 package qxsl.table;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import qxsl.model.Item;
+import qxsl.model.ItemTable;
 
 /**
  * 永続化された交信記録を読み取るためのデコーダです。
@@ -20,6 +28,40 @@ import qxsl.model.Item;
  * @since 2019/07/08
  */
 public abstract class TableDecoder implements AutoCloseable {
+	private boolean sharing;
+
+	/**
+	 * 読み取った交信記録の送受信の情報を共有するかを設定します。
+	 * 有効な場合は{@link #decode()}と{@link #stream()}が返す交信記録に、
+	 * {@link Item#share()}を適用します。
+	 *
+	 *
+	 * @param sharing 共有する場合は真
+	 *
+	 * @return このデコーダ
+	 *
+	 * @since 2026/10/17
+	 */
+	public final TableDecoder setSharing(boolean sharing) {
+		this.sharing = sharing;
+		return this;
+	}
+
+	/**
+	 * 次の交信記録を読み取り、設定に応じて送受信の情報を共有します。
+	 *
+	 *
+	 * @return 読み取った交信記録
+	 *
+	 * @throws IOException 構文上または読取り時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	private final Item nextItem() throws IOException {
+		final var item = this.next();
+		return sharing? item.share(): item;
+	}
+
 	/**
 	 * ストリームの交信記録を読み取ります。
 	 *
@@ -31,11 +73,66 @@ public abstract class TableDecoder implements AutoCloseable {
 	public List<Item> decode() throws IOException {
 		this.head();
 		final var list = new ArrayList<Item>();
-		while(hasNext()) list.add(this.next());
+		while(hasNext()) list.add(this.nextItem());
 		this.foot();
 		return list;
 	}
 
+	/**
+	 * ストリームの交信記録を列指向の表に読み取ります。
+	 * 交信記録は読み取り次第に表の列に格納され、保持されません。
+	 *
+	 *
+	 * @return 読み取った交信記録の表
+	 *
+	 * @throws IOException 構文上または読取り時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public ItemTable table() throws IOException {
+		this.head();
+		final var table = new ItemTable();
+		while(hasNext()) table.add(this.next());
+		this.foot();
+		return table;
+	}
+
+	/**
+	 * ストリームの交信記録を逐次的に読み取るストリームを返します。
+	 * 冒頭はこの時点で読み取り、交信記録は要求に応じて読み取ります。
+	 * 返されたストリームを閉じると、このデコーダも閉じられます。
+	 *
+	 *
+	 * @return 交信記録のストリーム
+	 *
+	 * @throws IOException 構文上または読取り時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public Stream<Item> stream() throws IOException {
+		this.head();
+		final var iter = new Remaining();
+		final var flag = Spliterator.NONNULL | Spliterator.ORDERED;
+		final var spl = Spliterators.spliteratorUnknownSize(iter, flag);
+		return StreamSupport.stream(spl, false).onClose(this::release);
+	}
+
+	/**
+	 * ストリームを閉じて非検査例外に変換された例外を送出します。
+	 *
+	 *
+	 * @throws UncheckedIOException 解放に失敗した場合
+	 *
+	 * @since 2026/10/17
+	 */
+	private final void release() {
+		try {
+			this.close();
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	/**
 	 * ストリームを閉じて資源を解放します。
 	 *
@@ -87,4 +184,56 @@ public abstract class TableDecoder implements AutoCloseable {
 	 * @since 2020/09/04
 	 */
 	public abstract boolean hasNext() throws IOException;
+
+	/**
+	 * ストリームの残りの交信記録を順番に読み取るイテレータです。
+	 * 交信記録を読み切った時点で交信記録の末尾を読み取ります。
+	 *
+	 *
+	 * @author 無線部開発班
+	 *
+	 * @since 2026/10/17
+	 */
+	private final class Remaining implements Iterator<Item> {
+		private boolean done;
+
+		/**
+		 * 交信記録が残っているかを確認します。
+		 *
+		 *
+		 * @return 交信記録を読み取れる場合は真
+		 *
+		 * @throws UncheckedIOException 構文上または読取り時の例外
+		 */
+		@Override
+		public final boolean hasNext() {
+			if(done) return false;
+			try {
+				if(TableDecoder.this.hasNext()) return true;
+				TableDecoder.this.foot();
+				this.done = true;
+				return false;
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		/**
+		 * 次の交信記録を読み取ります。
+		 *
+		 *
+		 * @return 読み取った交信記録
+		 *
+		 * @throws UncheckedIOException 構文上または読取り時の例外
+		 */
+		@Override
+		public final Item next() {
+			if(!hasNext()) throw new NoSuchElementException();
+			try {
+				return TableDecoder.this.nextItem();
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
 }
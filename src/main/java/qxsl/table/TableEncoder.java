@@ -6,7 +6,9 @@
 package qxsl.table;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import qxsl.model.Item;
 
@@ -37,6 +39,43 @@ public abstract class TableEncoder implements AutoCloseable {
 		this.foot();
 	}
 
+	/**
+	 * ストリームに交信記録を逐次的に検査して書き込みます。
+	 * 件数は未知として扱い、冒頭の書き込み時には負の値を返します。
+	 * 検査に失敗した場合は、それ以前の交信記録は書き込まれています。
+	 *
+	 *
+	 * @param items 書き込む交信記録
+	 *
+	 * @throws IOException 書き込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public void encode(Iterator<Item> items) throws IOException {
+		this.count = -1;
+		this.head();
+		while(items.hasNext()) {
+			final var item = items.next();
+			verify(item);
+			output(item);
+		}
+		this.foot();
+	}
+
+	/**
+	 * ストリームに交信記録を逐次的に検査して書き込みます。
+	 *
+	 *
+	 * @param items 書き込む交信記録
+	 *
+	 * @throws IOException 書き込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final void encode(Stream<Item> items) throws IOException {
+		encode(items.iterator());
+	}
+
 	/**
 	 * 交信記録の件数または負の整数値を返します。
 	 *
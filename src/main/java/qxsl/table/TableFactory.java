@@ -8,6 +8,7 @@ package qxsl.table;
 import java.io.*;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.stream.Stream;
 
 import qxsl.model.Item;
 
@@ -52,6 +53,40 @@ public abstract class TableFactory {
 	 */
 	public abstract List<String> extensions();
 
+	/**
+	 * 指定された文字列の冒頭がこの書式に従う可能性を評価します。
+	 * 非該当の場合は零を返し、可能性が高いほど大きな値を返します。
+	 * 判断できない場合は、該当の可能性を残すため1を返します。
+	 * 書式に固有の識別子を発見した場合は3を返すべきです。
+	 *
+	 *
+	 * @param head 交信記録の冒頭の文字列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	public int detect(String head) {
+		return 1;
+	}
+
+	/**
+	 * 指定されたバイト列の冒頭がこの書式に従う可能性を評価します。
+	 * 非該当の場合は零を返し、可能性が高いほど大きな値を返します。
+	 * 判断できない場合は、該当の可能性を残すため1を返します。
+	 * 書式に固有の識別子を発見した場合は3を返すべきです。
+	 *
+	 *
+	 * @param head 交信記録の冒頭のバイト列
+	 *
+	 * @return 該当する可能性
+	 *
+	 * @since 2026/10/17
+	 */
+	public int detect(byte[] head) {
+		return 1;
+	}
+
 	/**
 	 * 指定された入力を読み込むデコーダを返します。
 	 *
@@ -164,6 +199,68 @@ public abstract class TableFactory {
 		}
 	}
 
+	/**
+	 * 指定された入力から交信記録を逐次的に読み取るストリームを返します。
+	 * 返されたストリームを閉じると、入力も閉じられます。
+	 *
+	 *
+	 * @param is 交信記録を読み込む入力
+	 *
+	 * @return 交信記録のストリーム
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Stream<Item> stream(InputStream is) {
+		return stream(decoder(is));
+	}
+
+	/**
+	 * 指定された入力から交信記録を逐次的に読み取るストリームを返します。
+	 * 返されたストリームを閉じると、入力も閉じられます。
+	 *
+	 *
+	 * @param reader 交信記録を読み込む入力
+	 *
+	 * @return 交信記録のストリーム
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @throws UnsupportedOperationException 未実装の場合
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Stream<Item> stream(Reader reader) {
+		return stream(decoder(reader));
+	}
+
+	/**
+	 * 指定されたデコーダで交信記録を逐次的に読み取ります。
+	 * 冒頭の読み取りに失敗した場合はデコーダを閉じます。
+	 *
+	 *
+	 * @param coder デコーダ
+	 *
+	 * @return 交信記録のストリーム
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	private final Stream<Item> stream(TableDecoder coder) {
+		try {
+			return coder.stream();
+		} catch (IOException ex) {
+			try {
+				coder.close();
+			} catch (IOException sup) {
+				ex.addSuppressed(sup);
+			}
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	/**
 	 * 指定された交信記録をバイト列に書き出します。
 	 *
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.table;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import qxsl.model.Item;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * 追記中のファイルから新たに完結した交信記録のみを読み取ります。
+ * 読み取り済みの交信記録の末尾の位置を記憶して、
+ * 以降の読み取りでは追記された部分のみを走査します。
+ * このクラスはスレッドセーフではありません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class TableFollower implements AutoCloseable {
+	private final PrintFactory format;
+	private final WatchService watch;
+	private final Path path;
+	private long offset;
+
+	/**
+	 * 指定されたファイルの追記を監視するリーダを構築します。
+	 *
+	 *
+	 * @param path ファイル
+	 * @param format 書式
+	 *
+	 * @throws IOException 監視の開始に失敗した場合
+	 *
+	 * @throws UnsupportedOperationException 未対応の書式の場合
+	 */
+	public TableFollower(Path path, PrintFactory format) throws IOException {
+		if(format.boundary("") < 0) throw new UnsupportedOperationException();
+		this.path = path.toAbsolutePath();
+		this.format = format;
+		this.watch = this.path.getFileSystem().newWatchService();
+		try {
+			this.path.getParent().register(watch, ENTRY_CREATE, ENTRY_MODIFY);
+		} catch (IOException ex) {
+			watch.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * 監視を終了して資源を解放します。
+	 *
+	 *
+	 * @throws IOException 解放に失敗した場合
+	 */
+	@Override
+	public final void close() throws IOException {
+		watch.close();
+	}
+
+	/**
+	 * 読み取り済みの交信記録の末尾のバイト位置を返します。
+	 *
+	 *
+	 * @return 読み取り済みのバイト数
+	 */
+	public final long offset() {
+		return offset;
+	}
+
+	/**
+	 * 前回の読み取り以降に完結した交信記録を読み取ります。
+	 * ファイルが縮小した場合は、置換されたと見做して先頭から読み直します。
+	 *
+	 *
+	 * @return 新たに完結した交信記録
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 */
+	public final List<Item> poll() throws IOException {
+		if(Files.notExists(path)) return List.of();
+		try(final var channel = FileChannel.open(path, READ)) {
+			final long size = channel.size();
+			if(size < offset) this.offset = 0;
+			if(size == offset) return List.of();
+			if(size - offset > Integer.MAX_VALUE) throw new IOException("too large");
+			final var buf = ByteBuffer.allocate((int) (size - offset));
+			while(buf.hasRemaining()) {
+				final long at = offset + buf.position();
+				if(channel.read(buf, at) < 0) break;
+			}
+			return decode(buf.flip());
+		}
+	}
+
+	/**
+	 * ファイルへの追記を待機して、新たに完結した交信記録を読み取ります。
+	 * 既に完結した交信記録が存在する場合は待機せずに返します。
+	 *
+	 *
+	 * @param timeout 待機する最大の時間
+	 * @param unit 時間の単位
+	 *
+	 * @return 新たに完結した交信記録
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 * @throws InterruptedException 待機中に割り込まれた場合
+	 */
+	public final List<Item> await(long timeout, TimeUnit unit) throws IOException, InterruptedException {
+		final var list = poll();
+		if(!list.isEmpty()) return list;
+		final var key = watch.poll(timeout, unit);
+		if(key == null) return list;
+		key.pollEvents();
+		key.reset();
+		return poll();
+	}
+
+	/**
+	 * 指定されたバイト列のうち完結した交信記録を読み取ります。
+	 *
+	 *
+	 * @param buf 前回の読み取り位置以降のバイト列
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws IOException 読み取りに失敗した場合
+	 */
+	private final List<Item> decode(ByteBuffer buf) throws IOException {
+		final var text = text(buf.duplicate());
+		final int last = format.boundary(text);
+		if(last <= 0) return List.of();
+		final var part = text.substring(0, last);
+		final var list = new ArrayList<Item>();
+		try(final var coder = format.decoder(part)) {
+			if(offset == 0) coder.head();
+			while(coder.hasNext()) list.add(coder.next());
+		}
+		this.offset += consumed(buf, last);
+		return list;
+	}
+
+	/**
+	 * 指定されたバイト列を文字列に変換します。
+	 * 不正なバイト列は、デコーダと同様に代替文字に置換します。
+	 * 末尾で切断された文字は、次回の読み取りまで保留します。
+	 *
+	 *
+	 * @param buf バイト列
+	 *
+	 * @return 文字列
+	 */
+	private final String text(ByteBuffer buf) {
+		final var dec = decoder();
+		final var max = dec.maxCharsPerByte() * buf.remaining();
+		final var out = CharBuffer.allocate((int) Math.ceil(max));
+		dec.decode(buf, out, false);
+		return out.flip().toString();
+	}
+
+	/**
+	 * 指定された文字数の文字列に対応するバイト数を返します。
+	 * 置換された文字も実際に消費したバイト数で計数します。
+	 *
+	 *
+	 * @param buf バイト列
+	 * @param chars 文字数
+	 *
+	 * @return バイト数
+	 */
+	private final int consumed(ByteBuffer buf, int chars) {
+		decoder().decode(buf, CharBuffer.allocate(chars), false);
+		return buf.position();
+	}
+
+	/**
+	 * 不正なバイト列を代替文字に置換するデコーダを返します。
+	 *
+	 *
+	 * @return デコーダ
+	 */
+	private final CharsetDecoder decoder() {
+		final var dec = format.charset().newDecoder();
+		dec.onMalformedInput(CodingErrorAction.REPLACE);
+		return dec.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+}
@@ -5,12 +5,19 @@
 *******************************************************************************/
 package qxsl.table;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.StringJoiner;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 import qxsl.model.Item;
 
@@ -23,6 +30,9 @@ import qxsl.model.Item;
  * @since 2013/02/25
  */
 public final class TableManager implements Iterable<TableFactory> {
+	private static final int PREFIX = 4096;
+	private static final int TRIALS = 2;
+	private static final int STRONG = 3;
 	private final ServiceLoader<TableFactory> list;
 
 	/**
@@ -73,6 +83,76 @@ public final class TableManager implements Iterable<TableFactory> {
 		return null;
 	}
 
+	/**
+	 * 指定されたバイト列の冒頭を検査して該当する書式を列挙します。
+	 * 該当する可能性が高い順に並べ、同等の場合は拡張子を優先します。
+	 *
+	 *
+	 * @param binary 交信記録を読み込むバイト列
+	 * @param name ファイル名 またはnull
+	 *
+	 * @return 該当する可能性がある書式のリスト
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<TableFactory> detect(byte[] binary, String name) {
+		final int len = Math.min(binary.length, PREFIX);
+		final var head = Arrays.copyOf(binary, len);
+		return rank(f -> f.detect(head), name, false);
+	}
+
+	/**
+	 * 指定された文字列の冒頭を検査して該当する書式を列挙します。
+	 * 該当する可能性が高い順に並べ、同等の場合は拡張子を優先します。
+	 *
+	 *
+	 * @param string 交信記録を読み込む文字列
+	 * @param name ファイル名 またはnull
+	 *
+	 * @return 該当する可能性がある書式のリスト
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<TableFactory> detect(String string, String name) {
+		final int len = Math.min(string.length(), PREFIX);
+		final var head = string.substring(0, len);
+		return rank(f -> f.detect(head), name, false);
+	}
+
+	/**
+	 * 書式を評価して該当する可能性が高い順に並べます。
+	 * 試行する書式に限る場合は、最上位の書式が固有の識別子を含めば最上位のみを、
+	 * それ以外の場合は上位の2件までを返します。
+	 *
+	 *
+	 * @param test 書式を評価する関数
+	 * @param name ファイル名 またはnull
+	 * @param trial 試行する書式に限る場合は真
+	 *
+	 * @return 該当する可能性がある書式のリスト
+	 *
+	 * @since 2026/10/17
+	 */
+	private final List<TableFactory> rank(
+		ToIntFunction<TableFactory> test, String name, boolean trial) {
+		final var dot = name != null? name.lastIndexOf('.'): -1;
+		final var ext = name != null? name.substring(dot + 1): null;
+		final var map = new HashMap<TableFactory, Integer>();
+		final var seq = new ArrayList<TableFactory>();
+		for(var f: list) {
+			final int score = test.applyAsInt(f);
+			if(score <= 0) continue;
+			int hint = 0;
+			for(var e: f.extensions()) if(e.equalsIgnoreCase(ext)) hint = 1;
+			map.put(f, 2 * score + hint);
+			seq.add(f);
+		}
+		seq.sort((f, g) -> map.get(g) - map.get(f));
+		if(!trial || seq.isEmpty()) return seq;
+		final boolean sure = map.get(seq.get(0)) >= 2 * STRONG;
+		return seq.subList(0, Math.min(seq.size(), sure? 1: TRIALS));
+	}
+
 	/**
 	 * 指定されたバイト列から適切な書式で交信記録を読み込みます。
 	 *
@@ -84,12 +164,33 @@ public final class TableManager implements Iterable<TableFactory> {
 	 * @throws UncheckedIOException 読み込み時の例外
 	 */
 	public final List<Item> decode(byte[] binary) {
+		return decode(binary, null);
+	}
+
+	/**
+	 * 指定されたバイト列から適切な書式で交信記録を読み込みます。
+	 * 冒頭を検査して該当する可能性が高い上位の書式のみを試行します。
+	 *
+	 *
+	 * @param binary 交信記録を読み込むバイト列
+	 * @param name ファイル名 またはnull
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<Item> decode(byte[] binary, String name) {
 		final var join = new StringJoiner("\n");
-		for(var f: this) try {
+		final int len = Math.min(binary.length, PREFIX);
+		final var head = Arrays.copyOf(binary, len);
+		for(var f: rank(t -> t.detect(head), name, true)) try {
 			return f.decode(binary);
 		} catch (Exception ex) {
 			join.add(cause(f, ex));
 		}
+		if(join.length() == 0) join.add("format not detected");
 		final var ms = join.toString();
 		final var ex = new IOException(ms);
 		throw new UncheckedIOException(ex);
@@ -106,17 +207,65 @@ public final class TableManager implements Iterable<TableFactory> {
 	 * @throws UncheckedIOException 読み込み時の例外
 	 */
 	public final List<Item> decode(String string) {
+		return decode(string, null);
+	}
+
+	/**
+	 * 指定された文字列から適切な書式で交信記録を読み込みます。
+	 * 冒頭を検査して該当する可能性が高い上位の書式のみを試行します。
+	 *
+	 *
+	 * @param string 交信記録を読み込む文字列
+	 * @param name ファイル名 またはnull
+	 *
+	 * @return 交信記録
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final List<Item> decode(String string, String name) {
 		final var join = new StringJoiner("\n");
-		for(var f: this) try {
+		final var head = string.substring(0, Math.min(string.length(), PREFIX));
+		for(var f: rank(t -> t.detect(head), name, true)) try {
 			return f.decode(string);
 		} catch (Exception ex) {
 			join.add(cause(f, ex));
 		}
+		if(join.length() == 0) join.add("format not detected");
 		final var ms = join.toString();
 		final var ex = new IOException(ms);
 		throw new UncheckedIOException(ex);
 	}
 
+	/**
+	 * 指定された入力から適切な書式で交信記録を逐次的に読み取ります。
+	 * 冒頭を検査して最も該当する可能性が高い書式のみを使用します。
+	 * 返されたストリームを閉じると、入力も閉じられます。
+	 *
+	 *
+	 * @param is 交信記録を読み込む入力
+	 * @param name ファイル名 またはnull
+	 *
+	 * @return 交信記録のストリーム
+	 *
+	 * @throws UncheckedIOException 読み込み時の例外
+	 *
+	 * @since 2026/10/17
+	 */
+	public final Stream<Item> stream(InputStream is, String name) {
+		final var buf = new BufferedInputStream(is, PREFIX);
+		try {
+			buf.mark(PREFIX);
+			final var head = buf.readNBytes(PREFIX);
+			buf.reset();
+			for(var f: detect(head, name)) return f.stream(buf);
+			throw new IOException("format not detected");
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	/**
 	 * 指定された例外またはエラーの最初の原因を返します。
 	 *
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import qxsl.draft.Time;
+
+/**
+ * 固定長の書式で記述された交信日時を解析します。
+ * 書式が年月日時分の固定幅の数字と区切り文字のみで構成される場合は、
+ * 直前の文字列と共通する日付の解析を省略して、時分のみを解析します。
+ * 直前と同じ文字列の場合は、直前の解析結果を返します。
+ * それ以外の書式や範囲外の値は{@link DateTimeFormatter}で解析します。
+ * このクラスはスレッドセーフではありません。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class TimeParser {
+	private final DateTimeFormatter format;
+	private final ZoneOffset offset;
+	private final ZoneId zone;
+	private final boolean fixed;
+	private final char[] marks;
+	private final int length;
+	private int year = -1;
+	private int month = -1;
+	private int day = -1;
+	private int hour = -1;
+	private int minute = -1;
+	private String last;
+	private LocalDate date;
+	private Time time;
+
+	/**
+	 * 指定された書式と時間帯で解析器を構築します。
+	 *
+	 *
+	 * @param pattern 時刻の書式の文字列
+	 * @param format 時刻の書式
+	 * @param zone 時間帯
+	 */
+	public TimeParser(String pattern, DateTimeFormatter format, ZoneId zone) {
+		final var rules = zone.getRules();
+		this.format = format.withZone(zone);
+		this.offset = rules.isFixedOffset()? rules.getOffset(LocalDateTime.MIN): null;
+		this.zone = zone;
+		this.length = pattern.length();
+		this.marks = new char[length];
+		this.fixed = compile(pattern);
+	}
+
+	/**
+	 * 書式の文字列を解析して各数字の位置を設定します。
+	 *
+	 *
+	 * @param pattern 時刻の書式の文字列
+	 *
+	 * @return 固定長の書式の場合は真
+	 */
+	private final boolean compile(String pattern) {
+		for(int i = 0; i < length;) {
+			final char c = pattern.charAt(i);
+			int j = i;
+			while(j < length && pattern.charAt(j) == c) j++;
+			if(Character.isLetter(c) || c == '\'') {
+				if(c == 'u' && j - i == 4) this.year = i;
+				else if(c == 'M' && j - i == 2) this.month = i;
+				else if(c == 'd' && j - i == 2) this.day = i;
+				else if(c == 'H' && j - i == 2) this.hour = i;
+				else if(c == 'm' && j - i == 2) this.minute = i;
+				else return false;
+			} else for(int k = i; k < j; k++) marks[k] = c;
+			i = j;
+		}
+		if(year < 0 || month < 0 || day < 0) return false;
+		return hour >= 0 && minute >= 0;
+	}
+
+	/**
+	 * 指定された文字列を交信日時として解析します。
+	 *
+	 *
+	 * @param text 交信日時の文字列
+	 *
+	 * @return 交信日時
+	 *
+	 * @throws java.time.DateTimeException 解析に失敗した場合
+	 */
+	public final Time parse(CharSequence text) {
+		if(last != null && last.contentEquals(text)) return time;
+		final var parsed = fixed? quick(text): null;
+		this.time = parsed != null? parsed: slow(text);
+		this.last = text.toString();
+		return time;
+	}
+
+	/**
+	 * 指定された文字列を書式により解析します。
+	 *
+	 *
+	 * @param text 交信日時の文字列
+	 *
+	 * @return 交信日時
+	 */
+	private final Time slow(CharSequence text) {
+		this.date = null;
+		return new Time(ZonedDateTime.parse(text, format));
+	}
+
+	/**
+	 * 指定された文字列を固定長の書式として解析します。
+	 *
+	 *
+	 * @param text 交信日時の文字列
+	 *
+	 * @return 交信日時 または解析できない場合はnull
+	 */
+	private final Time quick(CharSequence text) {
+		if(text.length() != length) return null;
+		final int same = prefix(text);
+		for(int i = same; i < length; i++) {
+			if(marks[i] != 0 && text.charAt(i) != marks[i]) return null;
+		}
+		if(same <= year + 3 || same <= month + 1 || same <= day + 1) {
+			this.date = date(text);
+			if(date == null) return null;
+		}
+		final int h = digits(text, hour, 2);
+		final int m = digits(text, minute, 2);
+		if(h < 0 || h > 23 || m < 0 || m > 59) return null;
+		if(offset == null) {
+			return new Time(date.atTime(h, m).atZone(zone));
+		} else {
+			final long secs = date.toEpochDay() * 86400 + h * 3600 + m * 60;
+			return new Time(secs - offset.getTotalSeconds(), 0, zone);
+		}
+	}
+
+	/**
+	 * 直前の文字列と共通する先頭部分の長さを返します。
+	 *
+	 *
+	 * @param text 交信日時の文字列
+	 *
+	 * @return 共通部分の長さ
+	 */
+	private final int prefix(CharSequence text) {
+		if(last == null || date == null) return 0;
+		int idx = 0;
+		while(idx < length && text.charAt(idx) == last.charAt(idx)) idx++;
+		return idx;
+	}
+
+	/**
+	 * 指定された文字列の日付を解析します。
+	 *
+	 *
+	 * @param text 交信日時の文字列
+	 *
+	 * @return 日付 または範囲外の場合はnull
+	 */
+	private final LocalDate date(CharSequence text) {
+		final int y = digits(text, year, 4);
+		final int m = digits(text, month, 2);
+		final int d = digits(text, day, 2);
+		if(y < 0 || m < 1 || m > 12 || d < 1) return null;
+		if(d > 28 && d > LocalDate.of(y, m, 1).lengthOfMonth()) return null;
+		return LocalDate.of(y, m, d);
+	}
+
+	/**
+	 * 指定された位置の数字を整数として解析します。
+	 *
+	 *
+	 * @param text 文字列
+	 * @param from 先頭の位置
+	 * @param size 桁数
+	 *
+	 * @return 整数 または数字以外を含む場合は負数
+	 */
+	private static final int digits(CharSequence text, int from, int size) {
+		int value = 0;
+		for(int i = from; i < from + size; i++) {
+			final int digit = text.charAt(i) - '0';
+			if(digit < 0 || digit > 9) return -1;
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+}
@@ -23,6 +23,7 @@ import qxsl.field.FieldManager.Any;
  */
 public abstract class Field<V> {
 	private final QName qname;
+	private final int id;
 
 	/**
 	 * 指定された名前の属性を構築します。
@@ -31,6 +32,7 @@ public abstract class Field<V> {
 	 * @param qname 属性の名前
 	 */
 	public Field(QName qname) {
+		this.id = Symbols.id(qname);
 		this.qname = qname;
 	}
 
@@ -44,6 +46,18 @@ public abstract class Field<V> {
 		return qname;
 	}
 
+	/**
+	 * この属性の名前の番号を返します。
+	 *
+	 *
+	 * @return {@link Symbols}による名前の番号
+	 *
+	 * @since 2026/10/17
+	 */
+	public final int id() {
+		return id;
+	}
+
 	/**
 	 * この属性の値を返します。
 	 *
@@ -69,7 +83,7 @@ public abstract class Field<V> {
 	 * @return ハッシュ値
 	 */
 	@Override
-	public final int hashCode() {
+	public int hashCode() {
 		return Objects.hash(name(), value());
 	}
 
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.value;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.namespace.QName;
+
+import qxsl.field.FieldFactory;
+
+/**
+ * 属性の名前をプロセス全体で共有する記号表です。
+ * 既定のクラスパスで{@link FieldFactory}が提供される名前には、
+ * 初期化時に小さな整数の番号が割り当てられ、
+ * 番号による配列の参照で名前や関連する情報を検索できます。
+ * それ以外の名前は登録されず、全て{@link #UNKNOWN}を番号とします。
+ * 入力から読み取った任意の名前で番号の表が成長することはありません。
+ * 未登録の名前も{@link #intern(QName)}で代表の名前に変換されますが、
+ * 代表の名前の個数が上限に達した後は、引数の名前をそのまま返します。
+ * 名前は接頭辞を区別せず、最初に登録された名前を代表とします。
+ * 接頭辞を保存する必要がある場合は、代表の名前を使用しないでください。
+ * このクラスはスレッドセーフです。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class Symbols {
+	private static final Map<QName, Integer> IDS = new HashMap<>();
+	private static final Map<QName, QName> OTHERS = new ConcurrentHashMap<>();
+	private static final int LIMIT = 0x10000;
+	private static final QName[] NAMES;
+
+	/**
+	 * 登録されていない名前の番号です。
+	 * 登録された名前の番号より大きな値です。
+	 */
+	public static final int UNKNOWN = Integer.MAX_VALUE;
+
+	static {
+		final var cl = Symbols.class.getClassLoader();
+		for(var f: ServiceLoader.load(FieldFactory.class, cl)) {
+			IDS.putIfAbsent(f.target(), IDS.size());
+		}
+		NAMES = new QName[IDS.size()];
+		for(var e: IDS.entrySet()) NAMES[e.getValue()] = e.getKey();
+	}
+
+	private Symbols() {}
+
+	/**
+	 * 指定された名前の番号を返します。
+	 *
+	 *
+	 * @param name 属性の名前
+	 *
+	 * @return 番号 または未登録の場合は{@link #UNKNOWN}
+	 */
+	public static final int id(QName name) {
+		final var id = IDS.get(name);
+		return id != null? id: UNKNOWN;
+	}
+
+	/**
+	 * 指定された番号の名前を返します。
+	 *
+	 *
+	 * @param id 番号
+	 *
+	 * @return 属性の名前
+	 *
+	 * @throws IndexOutOfBoundsException 未登録の番号の場合
+	 */
+	public static final QName name(int id) {
+		if(id >= 0 && id < NAMES.length) return NAMES[id];
+		throw new IndexOutOfBoundsException(id);
+	}
+
+	/**
+	 * 指定された名前と等価な代表の名前を返します。
+	 *
+	 *
+	 * @param name 属性の名前
+	 *
+	 * @return 代表の名前 または上限を超えた場合は引数の名前
+	 */
+	public static final QName intern(QName name) {
+		final var id = IDS.get(name);
+		if(id != null) return NAMES[id];
+		final var other = OTHERS.get(name);
+		if(other != null) return other;
+		if(OTHERS.size() >= LIMIT) return name;
+		final var prev = OTHERS.putIfAbsent(name, name);
+		return prev != null? prev: name;
+	}
+
+	/**
+	 * 指定された名前空間と名前の代表の名前を返します。
+	 *
+	 *
+	 * @param uri 名前空間
+	 * @param local 名前
+	 *
+	 * @return 代表の名前 または上限を超えた場合は新たな名前
+	 */
+	public static final QName intern(String uri, String local) {
+		return intern(new QName(uri, local));
+	}
+
+	/**
+	 * 登録された名前の個数を返します。
+	 * 番号は零から個数未満の範囲に分布します。
+	 *
+	 *
+	 * @return 個数
+	 */
+	public static final int size() {
+		return NAMES.length;
+	}
+
+	/**
+	 * 指定された属性の順序を名前により比較します。
+	 * 番号が異なる場合は番号の順に、未登録の名前同士は名前空間と名前の順に比較します。
+	 *
+	 *
+	 * @param field 属性
+	 * @param id 比較する名前の番号
+	 * @param name 比較する名前
+	 *
+	 * @return 属性が前の場合は負数、等しい場合は零、後の場合は正数
+	 */
+	public static final int compare(Field field, int id, QName name) {
+		final int order = Integer.compare(field.id(), id);
+		if(order != 0 || id != UNKNOWN) return order;
+		final var key = field.name();
+		if(key == name) return 0;
+		final int uri = key.getNamespaceURI().compareTo(name.getNamespaceURI());
+		return uri != 0? uri: key.getLocalPart().compareTo(name.getLocalPart());
+	}
+}
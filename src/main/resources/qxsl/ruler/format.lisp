@@ -90,22 +90,25 @@
 
 ;; BAND FIELD ACCESS ROUTINES
 
-; band enumeration for qxsl
-(setq 1.9MHz     1900)
-(setq 3.5MHz     3500)
-(setq   7MHz     7000)
-(setq  10MHz    10000)
-(setq  14MHz    14000)
-(setq  18MHz    18000)
-(setq  21MHz    21000)
-(setq  28MHz    28000)
-(setq  50MHz    50000)
-(setq 144MHz   144000)
-(setq 430MHz   430000)
-(setq 1.2GHz  1200000)
-(setq 2.4GHz  2400000)
-(setq 5.6GHz  5600000)
-(setq  10GHz 10000000)
+; band enumeration for qxsl, representatives taken from Band
+(setq band-new (new Band String))
+(setq band-bucket (method 'bucket Band))
+(defun bucket-of text (band-bucket (band-new text)))
+(setq 1.9MHz (bucket-of "1.9MHz"))
+(setq 3.5MHz (bucket-of "3.5MHz"))
+(setq   7MHz (bucket-of   "7MHz"))
+(setq  10MHz (bucket-of  "10MHz"))
+(setq  14MHz (bucket-of  "14MHz"))
+(setq  18MHz (bucket-of  "18MHz"))
+(setq  21MHz (bucket-of  "21MHz"))
+(setq  28MHz (bucket-of  "28MHz"))
+(setq  50MHz (bucket-of  "50MHz"))
+(setq 144MHz (bucket-of "144MHz"))
+(setq 430MHz (bucket-of "430MHz"))
+(setq 1.2GHz (bucket-of "1.2GHz"))
+(setq 2.4GHz (bucket-of "2.4GHz"))
+(setq 5.6GHz (bucket-of "5.6GHz"))
+(setq  10GHz (bucket-of  "10GHz"))
 
 ; band enumeration for adif
 (setq 1.9MHz-adif "160m")
@@ -142,24 +145,8 @@
 (setq  10GHz-cqww 10000000)
 
 ; band access for qxsl
-(defun qxsl-band it
-	(let freq (qxsl-BAND it)
-		(cond
-			((<=     1800 freq     1913) 1.9MHz)
-			((<=     3500 freq     3687) 3.5MHz)
-			((<=     7000 freq     7200)   7MHz)
-			((<=    10000 freq    10150)  10MHz)
-			((<=    14000 freq    14350)  14MHz)
-			((<=    18000 freq    18168)  18MHz)
-			((<=    21000 freq    21450)  21MHz)
-			((<=    28000 freq    29700)  28MHz)
-			((<=    50000 freq    54000)  50MHz)
-			((<=   144000 freq   146000) 144MHz)
-			((<=   430000 freq   440000) 430MHz)
-			((<=  1200000 freq  1300000) 1.2GHz)
-			((<=  2400000 freq  2450000) 2.4GHz)
-			((<=  5600000 freq  5850000) 5.6GHz)
-			((<= 10000000 freq 10250000)  10GHz))))
+(setq band-of (method 'from Band Tuple))
+(defun qxsl-band it (band-bucket (band-of it)))
 
 ; band access for adif
 (defun adif-band it
@@ -238,10 +225,10 @@
 
 ;; MODE FIELD ACCESS ROUTINES
 
-; mode enumeration
-(setq MORSE "(?i)CW")
-(setq PHONE "(?i)PH|AM|FM|[DS]SB")
-(setq DIGIT "(?i)DG|FT4|FT8|RTTY")
+; mode classification
+(setq MORSE (method 'isMorse Mode String))
+(setq PHONE (method 'isPhone Mode String))
+(setq DIGIT (method 'isDigit Mode String))
 
 ; mode access for cqww
 (defun cqww-mode it
@@ -255,19 +242,23 @@
 (defun set-cqww-mode (it val)
 	(set-qxsl-mode it
 		(cond
-			((match val MORSE) "CW")
-			((match val PHONE) "PH")
-			((match val DIGIT) "DG"))))
+			((MORSE val) "CW")
+			((PHONE val) "PH")
+			((DIGIT val) "DG"))))
 
 ; mode set for zlog
 (defun set-zlog-mode (it val)
 	(set-qxsl-mode it
-		(if (match val DIGIT) "RTTY" val)))
+		(if (DIGIT val) "RTTY" val)))
 
 ; mode validation
-(defun MORSE? it (match (qxsl-mode it) MORSE))
-(defun PHONE? it (match (qxsl-mode it) PHONE))
-(defun DIGIT? it (match (qxsl-mode it) DIGIT))
+(setq mode-of (method 'from Mode Tuple))
+(setq mode-morse? (method 'isMorse Mode))
+(setq mode-phone? (method 'isPhone Mode))
+(setq mode-digit? (method 'isDigit Mode))
+(defun MORSE? it (mode-morse? (mode-of it)))
+(defun PHONE? it (mode-phone? (mode-of it)))
+(defun DIGIT? it (mode-digit? (mode-of it)))
 (defun CW/PH? it (or (MORSE? it) (PHONE? it)))
 (defun AN/DG? it (or (CW/PH? it) (DIGIT? it)))
 
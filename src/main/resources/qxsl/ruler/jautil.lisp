@@ -3,15 +3,21 @@
 (load "qxsl/ruler/format.lisp")
 
 ; hour in JST
-(defun 時刻 it (hour (at-zone (qxsl-time it) (zone "Asia/Tokyo"))))
+(setq JST (zone "Asia/Tokyo"))
+(setq time-of (method 'from Time Tuple))
+(setq time-hour (method 'hour Time ZoneId))
+(defun 時刻 it (time-hour (time-of it) JST))
 
 ; city databases
 (setq CITYDB ((method 'load LocalCityBase String) "qxsl/local/city.ja"))
 (setq AREADB ((method 'load LocalCityBase String) "qxsl/local/area.ja"))
 
 ; city extraction
-(defun 市区町村 it (city<-code CITYDB (qxsl-code it)))
-(defun 都道府県 it (city<-name CITYDB (area<-city (市区町村 it))))
+(setq code-of (method 'from Code Tuple))
+(setq code-city (method 'city Code LocalCityBase))
+(setq code-area (method 'area Code LocalCityBase))
+(defun 市区町村 it (let code (code-of (rcvd it)) (if (null? code) null (code-city code CITYDB))))
+(defun 都道府県 it (let code (code-of (rcvd it)) (if (null? code) null (code-area code CITYDB))))
 (defun 所轄総通 it (city<-code AREADB (code<-city (都道府県 it))))
 
 ; city validation
@@ -5,11 +5,16 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 import javax.xml.namespace.QName;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -47,6 +52,38 @@ public final class AdisFactoryTest extends Assertions {
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
 	}
 
+	@Test
+	public void testLongRecord() {
+		final var item = new Item();
+		item.set(new Any(new QName("adif.org", "CALL"), alnum(10)));
+		item.set(new Any(new QName("adif.org", "NOTES"), alnum(5000)));
+		final var format = new AdisFactory();
+		assertThat(format.decode(format.encode(item, item))).containsExactly(item, item);
+		final var text = "<CALL:6>JA1ZLO<NOTES:11><eor><X:1>a<eor>\n";
+		assertThat(format.decode(text)).hasSize(1);
+	}
+
+	@Test
+	public void testFollow() throws IOException {
+		final var item = new Item();
+		item.set(new Any(new QName("adif.org", "CALL"), alnum(10)));
+		item.set(new Any(new QName("adif.org", "NOTES"), "<eor>"));
+		final var format = new AdisFactory();
+		final var bytes = format.encode(item, item);
+		final var file = Files.createTempFile("qxsl", ".adi");
+		file.toFile().deleteOnExit();
+		final int half = bytes.length - 4;
+		Files.write(file, Arrays.copyOf(bytes, half));
+		try(final var follower = format.follow(file)) {
+			assertThat(follower.poll()).containsExactly(item);
+			assertThat(follower.poll()).isEmpty();
+			final var rest = Arrays.copyOfRange(bytes, half, bytes.length);
+			Files.write(file, rest, StandardOpenOption.APPEND);
+			assertThat(follower.poll()).containsExactly(item);
+			assertThat(follower.poll()).isEmpty();
+		}
+	}
+
 	public static final IntStream source() {
 		return IntStream.range(0, 100);
 	}
@@ -5,6 +5,10 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.stream.IntStream;
 
@@ -52,7 +56,7 @@ public final class CBinFactoryTest extends Assertions {
 
 	@ParameterizedTest
 	@MethodSource("source")
-	public void testDecode(int numItems) {
+	public void testDecode(int numItems) throws IOException {
 		final var items = new ArrayList<Item>();
 		for (int row = 0; row < numItems; row++) {
 			final var item = new Item();
@@ -68,6 +72,17 @@ public final class CBinFactoryTest extends Assertions {
 		}
 		assertThat(format.decode(format.encode(items))).isEqualTo(items);
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
+		final var file = Files.createTempFile("qxsl", ".lg8");
+		try(final var os = new FileOutputStream(file.toFile())) {
+			format.encoder(os).encode(items.stream());
+		}
+		assertThat(format.decode(Files.readAllBytes(file))).isEqualTo(items);
+		try(final var list = format.records(file)) {
+			assertThat(list).isEqualTo(items);
+		}
+		file.toFile().deleteOnExit();
+		final var encoder = format.encoder(new ByteArrayOutputStream());
+		assertThatThrownBy(() -> encoder.encode(items.stream())).isInstanceOf(IOException.class);
 	}
 
 	public static final IntStream source() {
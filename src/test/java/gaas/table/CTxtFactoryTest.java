@@ -5,10 +5,14 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -18,6 +22,7 @@ import qxsl.draft.Code;
 import qxsl.draft.Mode;
 import qxsl.draft.Time;
 import qxsl.model.Item;
+import qxsl.table.PrintEncoder;
 import qxsl.table.TableManager;
 
 import static qxsl.junit.RandomNumberParameterExtension.randInt;
@@ -47,7 +52,7 @@ public final class CTxtFactoryTest extends Assertions {
 
 	@ParameterizedTest
 	@MethodSource("source")
-	public void testDecode(int numItems) {
+	public void testDecode(int numItems) throws IOException {
 		final var items = new ArrayList<Item>();
 		for (int row = 0; row < numItems; row++) {
 			final var item = new Item();
@@ -60,7 +65,33 @@ public final class CTxtFactoryTest extends Assertions {
 			items.add(item);
 		}
 		assertThat(format.decode(format.encode(items))).isEqualTo(items);
+		final var pool = ForkJoinPool.commonPool();
+		assertThat(format.decode(format.encode(items), pool)).isEqualTo(items);
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
+		final var os = new ByteArrayOutputStream();
+		format.encoder(os).encode(items.stream());
+		assertThat(format.decode(os.toByteArray())).isEqualTo(items);
+	}
+
+	@Test
+	public void testFlushInterval() throws IOException {
+		final var item = new Item();
+		item.set(Time.now().copyDropSecond());
+		item.set(bands.get(0));
+		item.set(new Call(alnum(11)));
+		item.set(new Mode(alnum(4)));
+		final var os = new ByteArrayOutputStream();
+		final var encoder = (PrintEncoder) format.encoder(os);
+		encoder.head();
+		encoder.output(item);
+		assertThat(os.size()).isZero();
+		encoder.flush();
+		final int size = os.size();
+		assertThat(size).isPositive();
+		encoder.setFlushInterval(1).output(item);
+		assertThat(os.size()).isGreaterThan(size);
+		encoder.close();
+		assertThat(format.decode(os.toByteArray())).containsExactly(item, item);
 	}
 
 	public static final IntStream source() {
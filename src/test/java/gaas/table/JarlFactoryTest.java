@@ -6,6 +6,7 @@
 package gaas.table;
 
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
@@ -59,6 +60,8 @@ public final class JarlFactoryTest extends Assertions {
 			items.add(item);
 		}
 		assertThat(format.decode(format.encode(items))).isEqualTo(items);
+		final var pool = ForkJoinPool.commonPool();
+		assertThat(format.decode(format.encode(items), pool)).isEqualTo(items);
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
 	}
 
@@ -5,10 +5,14 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.xml.sax.SAXException;
@@ -58,6 +62,15 @@ public final class QxmlFactoryTest extends Assertions {
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
 	}
 
+	@Test
+	public void testValidation() throws IOException, SAXException {
+		final var format = new QxmlFactory();
+		final var text = "<list><item>text</item></list>";
+		final var part = format.decoder(new StringReader(text), Validation.STRUCTURE);
+		assertThatThrownBy(() -> format.decode(text)).isInstanceOf(UncheckedIOException.class);
+		assertThat(part.decode()).hasSize(1);
+	}
+
 	public static final IntStream source() {
 		return IntStream.range(0, 100);
 	}
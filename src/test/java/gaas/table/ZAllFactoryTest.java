@@ -5,7 +5,13 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
@@ -62,7 +68,43 @@ public final class ZAllFactoryTest extends Assertions {
 			items.add(item);
 		}
 		assertThat(format.decode(format.encode(items))).isEqualTo(items);
+		final var pool = ForkJoinPool.commonPool();
+		assertThat(format.decode(format.encode(items), pool)).isEqualTo(items);
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
+		final var is = new ByteArrayInputStream(format.encode(items));
+		try(final var stream = format.stream(is)) {
+			assertThat(stream).containsExactlyElementsOf(items);
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("source")
+	public void testFollow(int numItems) throws IOException {
+		final var items = new ArrayList<Item>();
+		for (int row = 0; row <= numItems; row++) {
+			final var item = new Item();
+			item.set(Time.now().copyDropSecond());
+			item.set(bands.get(randInt(bands.size())));
+			item.set(new Call(alnum(12)));
+			item.set(new Mode(alnum(4)));
+			item.set(new Note(alnum(50)));
+			item.set(new Name(alnum(14)));
+			item.getRcvd().set(new RSTQ(randInt(600)));
+			item.getSent().set(new RSTQ(randInt(600)));
+			items.add(item);
+		}
+		final var bytes = format.encode(items);
+		final var file = Files.createTempFile("qxsl", ".all");
+		file.toFile().deleteOnExit();
+		final int half = bytes.length - 5;
+		Files.write(file, Arrays.copyOf(bytes, half));
+		try(final var follower = format.follow(file)) {
+			assertThat(follower.poll()).isEqualTo(items.subList(0, numItems));
+			final var rest = Arrays.copyOfRange(bytes, half, bytes.length);
+			Files.write(file, rest, StandardOpenOption.APPEND);
+			assertThat(follower.poll()).containsExactly(items.get(numItems));
+			assertThat(follower.poll()).isEmpty();
+		}
 	}
 
 	public static final IntStream source() {
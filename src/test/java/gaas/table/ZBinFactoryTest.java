@@ -5,10 +5,14 @@
 *******************************************************************************/
 package gaas.table;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -54,7 +58,7 @@ public final class ZBinFactoryTest extends Assertions {
 
 	@ParameterizedTest
 	@MethodSource("source")
-	public void testDecode(int numItems) {
+	public void testDecode(int numItems) throws IOException {
 		final var items = new ArrayList<Item>();
 		for (int row = 0; row < numItems; row++) {
 			final var item = new Item();
@@ -75,6 +79,31 @@ public final class ZBinFactoryTest extends Assertions {
 		}
 		assertThat(format.decode(format.encode(items))).isEqualTo(items);
 		assertThat(tables.decode(format.encode(items))).isEqualTo(items);
+		final var is = new ByteArrayInputStream(format.encode(items));
+		try(final var stream = format.stream(is)) {
+			assertThat(stream).containsExactlyElementsOf(items);
+		}
+		final var file = Files.createTempFile("qxsl", ".zlo");
+		Files.write(file, format.encode(items));
+		try(final var list = format.records(file)) {
+			assertThat(list).isEqualTo(items);
+		}
+		file.toFile().deleteOnExit();
+	}
+
+	@Test
+	public void testMultiByte() {
+		final var item = new Item();
+		item.set(Time.now().copyDropSecond());
+		item.set(bands.get(0));
+		item.set(modes.get(0));
+		item.set(new Call("JA1ZLO"));
+		item.set(new Name("無線部"));
+		item.set(new Note("開発班".repeat(20)));
+		item.getSent().set(watts.get(0));
+		final var back = format.decode(format.encode(item)).get(0);
+		assertThat(back.get(Qxsl.NAME)).isEqualTo(new Name("無線部"));
+		assertThat(back.get(Qxsl.NOTE)).isEqualTo(new Note("開発班".repeat(11)));
 	}
 
 	public static final IntStream source() {
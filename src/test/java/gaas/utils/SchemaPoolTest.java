@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package gaas.utils;
+
+import java.io.StringReader;
+import java.util.stream.IntStream;
+import javax.xml.transform.stream.StreamSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+import gaas.table.QxmlFactory;
+
+/**
+ * {@link SchemaPool}クラスのテスト用クラスです。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class SchemaPoolTest extends Assertions {
+	private final String QXSD = QxmlFactory.QXSD;
+
+	@Test
+	public void testOf() throws SAXException {
+		final var url = QxmlFactory.class.getResource(QXSD);
+		assertThat(SchemaPool.of(url)).isSameAs(SchemaPool.of(url));
+	}
+
+	@Test
+	public void testValidate() throws SAXException {
+		final var pool = SchemaPool.of(QxmlFactory.class.getResource(QXSD));
+		final var good = "<list><item/></list>";
+		final var fail = "<list><item>text</item></list>";
+		assertThatCode(() -> IntStream.range(0, 100).parallel().forEach(n -> {
+			try {
+				pool.validate(new StreamSource(new StringReader(good)));
+			} catch (Exception ex) {
+				throw new AssertionError(ex);
+			}
+		})).doesNotThrowAnyException();
+		final var source = new StreamSource(new StringReader(fail));
+		assertThatThrownBy(() -> pool.validate(source)).isInstanceOf(SAXException.class);
+	}
+}
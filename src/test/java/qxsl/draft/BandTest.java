@@ -5,6 +5,8 @@
 *******************************************************************************/
 package qxsl.draft;
 
+import java.math.BigDecimal;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +31,17 @@ public final class BandTest extends Assertions {
 		assertThat(new Band("2.4GHz")).isEqualTo(new Band(2_400_000));
 	}
 
+	@Test
+	public void testOf() {
+		assertThat(Band.of(7_000)).isSameAs(Band.of(new BigDecimal("7000.00")));
+		assertThat(Band.of(7_000)).isEqualTo(new Band(7_000)).hasSameHashCodeAs(new Band(7_000));
+		assertThat(Band.of(new BigDecimal("136.5")).isIntegral()).isFalse();
+		assertThat(Band.of(new BigDecimal("136.5"))).isEqualTo(new Band("136.50kHz"));
+		assertThat(Band.of(new BigDecimal("136.5"))).isNotEqualTo(Band.of(136));
+		assertThat(Band.of(new BigDecimal("136.5")).toKHz()).isEqualTo(136);
+		assertThat(Band.of(1_234).value()).isEqualByComparingTo("1234");
+	}
+
 	@Test
 	public void testToGHzString() {
 		assertThat(new Band(1_200_000).toGHzString()).isEqualTo("1.2GHz");
@@ -57,4 +70,14 @@ public final class BandTest extends Assertions {
 		assertThat(new Band(430_000)).hasToString("430MHz");
 		assertThat(new Band(5_600_000)).hasToString("5.6GHz");
 	}
+
+	@Test
+	public void testBucket() {
+		assertThat(new Band(1_800).bucket()).isEqualTo(1_900);
+		assertThat(new Band(1_913).bucket()).isEqualTo(1_900);
+		assertThat(new Band("1913.5kHz").bucket()).isNull();
+		assertThat(new Band(29_700).bucket()).isEqualTo(28_000);
+		assertThat(new Band(432_000).bucket()).isEqualTo(430_000);
+		assertThat(new Band(136).bucket()).isNull();
+	}
 }
@@ -38,4 +38,25 @@ public final class CallTest extends Assertions {
 		assertThat(new Call("JA1ZLO").value()).isEqualTo("JA1ZLO");
 		assertThat(new Call("JA1YWX").value()).isEqualTo("JA1YWX");
 	}
+
+	@Test
+	public void testOf() {
+		assertThat(Call.of("ja1zlo/1")).isSameAs(Call.of("JA1ZLO/1"));
+		assertThat(Call.of("JA1ZLO/1")).isEqualTo(new Call("JA1ZLO/1"));
+		assertThat(Call.of("JA1ZLO/1")).hasSameHashCodeAs(new Call("JA1ZLO/1"));
+		assertThat(Call.of("JA1ZLO/1").suffix()).isEqualTo("1");
+		assertThat(Call.of("JA1ZLO").suffix()).isNull();
+	}
+
+	@Test
+	public void testIsValid(@RandomString String text) {
+		final var regex = Call.normalize(text).matches("\\w+(/\\w+)?");
+		assertThat(Call.isValid(text)).isEqualTo(regex);
+		assertThat(Call.isValid("ja1zlo/1")).isTrue();
+		assertThat(Call.isValid("ＪＡ１ＺＬＯ")).isTrue();
+		assertThat(Call.isValid("JA1ZLO/")).isFalse();
+		assertThat(Call.isValid("/JA1ZLO")).isFalse();
+		assertThat(Call.isValid("JA1/ZLO/1")).isFalse();
+		assertThat(Call.isValid("")).isFalse();
+	}
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import qxsl.junit.RandomStringParameterExtension;
 import qxsl.junit.RandomStringParameterExtension.RandomString;
+import qxsl.local.LocalCityBase;
 
 /**
  * {@link Code}クラスのテスト用クラスです。
@@ -32,4 +33,20 @@ public final class CodeTest extends Assertions {
 		assertThat(new Code("100110H").value()).isEqualTo("100110H");
 		assertThat(new Code("400105M").value()).isEqualTo("400105M");
 	}
+
+	@Test
+	public void testCity() {
+		final var base = LocalCityBase.load("qxsl/local/city.ja");
+		final var code = new Code("100101");
+		assertThat(code.city(base).name()).isEqualTo("東京都 千代田区");
+		assertThat(code.area(base).code()).isEqualTo("10");
+		assertThat(code.city(base)).isSameAs(base.getByCode("100101"));
+		assertThat(new Code("XXXXXX").city(base)).isNull();
+		assertThat(new Code("XXXXXX").area(base)).isNull();
+		final var area = LocalCityBase.load("qxsl/local/area.ja");
+		final var pref = new Code("10");
+		assertThat(pref.city(base)).isSameAs(base.getByCode("10"));
+		assertThat(pref.city(area)).isSameAs(area.getByCode("10")).isNotNull();
+		assertThat(pref.city(base)).isSameAs(base.getByCode("10"));
+	}
 }
@@ -32,4 +32,15 @@ public final class ModeTest extends Assertions {
 		assertThat(new Mode("CW").value()).isEqualTo("CW");
 		assertThat(new Mode("AM").value()).isEqualTo("AM");
 	}
+
+	@Test
+	public void testKind() {
+		assertThat(new Mode("cw").isMorse()).isTrue();
+		assertThat(new Mode("SSB").isPhone()).isTrue();
+		assertThat(new Mode("FT8").isDigit()).isTrue();
+		assertThat(new Mode("CW").isPhone()).isFalse();
+		assertThat(new Mode("CWR").isMorse()).isFalse();
+		assertThat(Mode.isPhone("ssb")).isTrue();
+		assertThat(Mode.isDigit("CW")).isFalse();
+	}
 }
@@ -5,6 +5,7 @@
 *******************************************************************************/
 package qxsl.draft;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 import org.assertj.core.api.Assertions;
@@ -30,4 +31,33 @@ public final class TimeTest extends Assertions {
 		final var time = ZonedDateTime.now();
 		assertThat(new Time(time).value()).isEqualTo(time);
 	}
+
+	@Test
+	public void testEquals() {
+		final var time = ZonedDateTime.now(ZoneId.of("Asia/Tokyo"));
+		final var same = time.withZoneSameInstant(ZoneId.of("UTC"));
+		assertThat(new Time(time)).isEqualTo(new Time(same));
+		assertThat(new Time(time)).hasSameHashCodeAs(new Time(same));
+		assertThat(new Time(time)).isNotEqualTo(new Time(time.plusNanos(1)));
+	}
+
+	@Test
+	public void testEpoch() {
+		final var zone = ZoneId.of("Asia/Tokyo");
+		final var time = new Time(1_000_000_000L, 500, zone);
+		assertThat(time.value().toEpochSecond()).isEqualTo(1_000_000_000L);
+		assertThat(time.value().getNano()).isEqualTo(500);
+		assertThat(time.value().getZone()).isEqualTo(zone);
+		assertThat(time.hour(zone)).isEqualTo(time.value().getHour());
+	}
+
+	@Test
+	public void testHour() {
+		final var zone = ZoneId.of("Asia/Tokyo");
+		final var time = ZonedDateTime.of(2026, 10, 17, 23, 30, 0, 0, zone);
+		assertThat(new Time(time).hour(zone)).isEqualTo(23);
+		assertThat(new Time(time).hour(ZoneId.of("UTC"))).isEqualTo(14);
+		final var past = ZonedDateTime.of(1800, 1, 1, 1, 0, 0, 0, zone);
+		assertThat(new Time(past).hour(zone)).isEqualTo(1);
+	}
 }
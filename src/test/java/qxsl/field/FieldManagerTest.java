@@ -5,10 +5,15 @@
 *******************************************************************************/
 package qxsl.field;
 
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import qxsl.draft.Band;
 import qxsl.draft.Qxsl;
+import qxsl.draft.Time;
 
 import gaas.draft.*;
 
@@ -37,6 +42,38 @@ public final class FieldManagerTest extends Assertions {
 		assertThat(fields.factory(Qxsl.WATT)).isInstanceOf(WattFactory.class);
 	}
 
+	@Test
+	public void testCache() {
+		final var cache = fields.cache(Qxsl.CALL);
+		final var call = cache.field("JA1ZLO");
+		assertThat(cache.field(new StringBuilder("JA1ZLO"))).isSameAs(call);
+		for(int i = 0; i < 100; i++) cache.field(new StringBuilder().append(i));
+		assertThat(cache.field(new StringBuilder("JA1ZLO"))).isSameAs(call);
+		assertThat(cache.field(new StringBuilder("42"))).isSameAs(cache.field("42"));
+	}
+
+	@Test
+	public void testField() {
+		final var band = new Band(7_000);
+		final var time = Time.now();
+		assertThat(fields.field(Qxsl.BAND, band)).isSameAs(band);
+		assertThat(fields.field(Qxsl.BAND, band.value())).isEqualTo(band);
+		assertThat(fields.field(Qxsl.BAND, "7000")).isEqualTo(band);
+		assertThat(fields.field(Qxsl.TIME, time.value())).isEqualTo(time);
+		assertThat(fields.field(Qxsl.RSTQ, 599).value()).isEqualTo(599);
+		assertThat(fields.field(Qxsl.CODE, band).value()).isEqualTo("7000");
+	}
+
+	@Test
+	public void testConcurrent() {
+		final var cache = fields.cache(Qxsl.CODE);
+		final var codes = IntStream.range(0, 10000).parallel().mapToObj(i -> {
+			return cache.field(new StringBuilder().append(i % 100));
+		}).collect(Collectors.toSet());
+		assertThat(codes).hasSize(100);
+		assertThat(cache.size()).isEqualTo(100);
+	}
+
 	@Test
 	public void testIterator() {
 		assertThat(fields.iterator()).isNotNull();
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.model;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.namespace.QName;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import gaas.table.ZAllFactory;
+import qxsl.draft.*;
+
+/**
+ * {@link ItemTable}クラスのテスト用クラスです。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class ItemTableTest extends Assertions {
+	private final List<Item> items = new ArrayList<>();
+
+	public ItemTableTest() {
+		final var zone = ZoneId.of("Asia/Tokyo");
+		final var time = ZonedDateTime.of(2026, 10, 17, 9, 0, 0, 0, zone);
+		for(int i = 0; i < 100; i++) {
+			final var item = new Item();
+			item.set(new Time(time.plusMinutes(i)));
+			item.set(new Call("JA1ZLO/" + (i % 7)));
+			item.set(new Band(i % 2 == 0? 7_000: 14_000));
+			item.set(new Mode("CW"));
+			item.getSent().set(new RSTQ(599)).set(new Code("100H"));
+			item.getRcvd().set(new RSTQ(599)).set(new Code(String.valueOf(i)));
+			if(i % 10 == 0) item.set(new QName("item.test", "note"), i);
+			items.add(item);
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		final var table = new ItemTable(items);
+		assertThat(table).hasSize(100).isEqualTo(items);
+		assertThat(table.get(42)).isEqualTo(items.get(42));
+		assertThatThrownBy(() -> table.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	public void testSet() {
+		final var table = new ItemTable(items);
+		table.set(3, items.get(5));
+		assertThat(table.get(3)).isEqualTo(items.get(5));
+		table.set(3, new Item());
+		assertThat(table.get(3)).isEqualTo(new Item());
+		table.clear();
+		table.add(items.get(7));
+		assertThat(table).containsExactly(items.get(7));
+	}
+
+	@Test
+	public void testColumn() {
+		final var table = new ItemTable(items);
+		final var band = table.getBoth(Qxsl.BAND);
+		assertThat(band.select(f -> f.equals(new Band(7_000))).cardinality()).isEqualTo(50);
+		assertThat(band.histogram()).containsEntry(new Band(14_000), 50);
+		assertThat(table.getSent(Qxsl.CODE).histogram()).hasSize(1);
+		assertThat(table.getRcvd(Qxsl.CODE).histogram()).hasSize(100);
+		assertThat(table.getBoth(Qxsl.TIME).select(f -> true).cardinality()).isEqualTo(100);
+		assertThat(table.getBoth(Qxsl.WATT)).isNull();
+		assertThat(table.getBoth(new QName("item.test", "note")).select(f -> true).cardinality()).isEqualTo(10);
+		assertThat(table.getSent(new QName("item.test", "note"))).isNull();
+	}
+
+	@Test
+	public void testTimes() {
+		final var table = new ItemTable();
+		for(int i = 0; i < 10; i++) table.add(items.get(i % 2));
+		final var times = table.getBoth(Qxsl.TIME);
+		final var calls = new int[1];
+		final var time = Time.from(items.get(0));
+		assertThat(times.select(f -> ++calls[0] > 0 && f.equals(time)).cardinality()).isEqualTo(5);
+		assertThat(calls[0]).isEqualTo(2);
+		assertThat(times.histogram()).hasSize(2).containsEntry(time, 5);
+		final var utc = new Item();
+		utc.set(new Time(time.value().withZoneSameInstant(ZoneId.of("UTC"))));
+		table.add(utc);
+		final var zone = ZoneId.of("Asia/Tokyo");
+		assertThat(times.select(f -> ((Time) f).zone().equals(zone)).cardinality()).isEqualTo(10);
+		assertThat(times.select(f -> f.equals(time)).cardinality()).isEqualTo(6);
+		assertThat(times.histogram()).containsEntry(time, 6);
+	}
+
+	@Test
+	public void testDecode() throws Exception {
+		final var format = new ZAllFactory();
+		final var list = items.subList(1, 10);
+		final var bytes = format.encode(list);
+		try(final var decoder = format.decoder(bytes)) {
+			assertThat(decoder.table()).isEqualTo(format.decode(bytes));
+		}
+	}
+}
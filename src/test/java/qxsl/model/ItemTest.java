@@ -49,6 +49,22 @@ public final class ItemTest extends Assertions {
 		assertThat(item1).isEqualTo(item2);
 	}
 
+	@Test
+	public void testShare() {
+		final var item1 = new Item();
+		final var item2 = new Item();
+		item1.getSent().set(new Code("100H")).set(new RSTQ(599));
+		item2.getSent().set(new RSTQ(599)).set(new Code("100H"));
+		assertThat(item1.share()).isEqualTo(item2.share());
+		assertThat(item1.hashCode()).isEqualTo(item2.hashCode());
+		item1.getSent().set(new Code("100M"));
+		assertThat(item1).isNotEqualTo(item2);
+		assertThat(item2.getSent().get(Qxsl.CODE)).isEqualTo(new Code("100H"));
+		item1.getSent().remove(Qxsl.CODE);
+		item2.getSent().remove(Qxsl.CODE);
+		assertThat(item1).isEqualTo(item2);
+	}
+
 	@Test
 	public void testType() {
 		assertThat(new Item().name()).isEqualTo(ITEM);
@@ -5,6 +5,8 @@
 *******************************************************************************/
 package qxsl.model;
 
+import javax.xml.namespace.QName;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +45,31 @@ public final class RcvdTest extends Assertions {
 		assertThat(rcvd1).isEqualTo(rcvd2);
 	}
 
+	@Test
+	public void testRemove() {
+		final var rcvd1 = new Rcvd().set(code).set(rstq).set(watt);
+		final var rcvd2 = new Rcvd().set(watt).set(code);
+		assertThat(rcvd1.remove(Qxsl.RSTQ)).isEqualTo(rcvd2);
+		assertThat(rcvd1.hashCode()).isEqualTo(rcvd2.hashCode());
+		assertThat(rcvd1.containsKey(Qxsl.RSTQ)).isFalse();
+		assertThat(rcvd1).containsExactlyInAnyOrder(code, watt);
+	}
+
+	@Test
+	public void testMany() {
+		final var rcvd1 = new Rcvd();
+		final var rcvd2 = new Rcvd();
+		for(int i = 0; i < 100; i++) {
+			rcvd1.set(new QName("rcvd.test", "k" + i), i);
+			rcvd2.set(new QName("rcvd.test", "k" + (99 - i)), 99 - i);
+		}
+		assertThat(rcvd1).hasSize(100).isEqualTo(rcvd2);
+		assertThat(rcvd1.hashCode()).isEqualTo(rcvd2.hashCode());
+		assertThat(rcvd1.value(new QName("rcvd.test", "k42"))).isEqualTo("42");
+		rcvd1.remove(new QName("rcvd.test", "k42"));
+		assertThat(rcvd1).hasSize(99).isNotEqualTo(rcvd2);
+	}
+
 	@Test
 	public void testType() {
 		assertThat(new Rcvd().name()).isEqualTo(RCVD);
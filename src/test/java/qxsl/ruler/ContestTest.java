@@ -40,7 +40,7 @@ public final class ContestTest extends Assertions {
 	@Test
 	public void testGet() {
 		final var rule = RuleKit.load("allja1.lisp").contest();
-		assertThat(rule.get("DIGIT")).isInstanceOf(String.class);
+		assertThat(rule.get("1.9MHz-adif")).isInstanceOf(String.class);
 		assertThat(rule.get("split")).isInstanceOf(Method.class);
 	}
 
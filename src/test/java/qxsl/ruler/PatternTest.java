@@ -51,10 +51,18 @@ public final class PatternTest extends Assertions {
 	@Test
 	public void testGet() {
 		final var rule = RuleKit.load("jautil.lisp").pattern();
-		assertThat(rule.get("PHONE")).isInstanceOf(String.class);
+		assertThat(rule.get("1.9MHz-adif")).isInstanceOf(String.class);
 		assertThat(rule.get("match")).isInstanceOf(Method.class);
 	}
 
+	@Test
+	public void testShare() {
+		final var list = new AssetUtils(Pattern.class).items("allja1.qxml");
+		final var norm = rule.normalize(list, "qxml", true);
+		assertThat(norm).isEqualTo(rule.normalize(list, "qxml"));
+		assertThat(rule.transform(norm, "zall", true)).isEqualTo(rule.transform(norm, "zall"));
+	}
+
 	private static final List<Arguments> items() {
 		final var fmts = new TableManager();
 		final var list = new ArrayList<Arguments>();
@@ -29,7 +29,7 @@ public final class SectionTest extends Assertions {
 	@ParameterizedTest
 	@MethodSource("sections")
 	public void testGet(Section rule) {
-		assertThat(rule.get("MORSE")).isInstanceOf(String.class);
+		assertThat(rule.get("1.9MHz-adif")).isInstanceOf(String.class);
 		assertThat(rule.get("match")).isInstanceOf(Method.class);
 	}
 
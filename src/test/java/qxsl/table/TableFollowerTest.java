@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.table;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import gaas.table.ZAllFactory;
+import qxsl.draft.*;
+import qxsl.model.Item;
+
+/**
+ * {@link TableFollower}クラスのテスト用クラスです。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class TableFollowerTest extends Assertions {
+	private final List<Item> items = new ArrayList<>();
+
+	public TableFollowerTest() {
+		final var time = ZonedDateTime.now().withSecond(0).withNano(0);
+		for(int i = 0; i < 3; i++) {
+			final var item = new Item();
+			item.set(new Time(time.plusMinutes(i)));
+			item.set(new Call("JA1ZLO/" + i));
+			item.set(new Band(7_000));
+			item.set(new Mode("CW"));
+			item.set(new Note(i == 0? "@@": "OK"));
+			item.getSent().set(new RSTQ(599)).set(new Code("100H"));
+			item.getRcvd().set(new RSTQ(599)).set(new Code("100H"));
+			items.add(item);
+		}
+	}
+
+	/**
+	 * 指定されたバイト列の最初の"@@"を、
+	 * SJISで往復変換できない機種依存文字に置換します。
+	 *
+	 *
+	 * @param bytes バイト列
+	 *
+	 * @return 置換されたバイト列
+	 */
+	private static final byte[] corrupt(byte[] bytes) {
+		for(int i = 0; i + 1 < bytes.length; i++) {
+			if(bytes[i] == '@' && bytes[i + 1] == '@') {
+				bytes[i + 0] = (byte) 0x87;
+				bytes[i + 1] = (byte) 0x40;
+				break;
+			}
+		}
+		return bytes;
+	}
+
+	@Test
+	public void testMalformed(@TempDir Path dir) throws Exception {
+		final var format = new ZAllFactory();
+		final var bytes = corrupt(format.encode(items));
+		assertThat(new String(bytes, "SJIS")).doesNotContain("@@");
+		final var file = dir.resolve("test.all");
+		final var head = Arrays.copyOf(bytes, bytes.length - 1);
+		Files.write(file, head);
+		try(final var follower = new TableFollower(file, format)) {
+			final var first = follower.poll();
+			assertThat(first).hasSize(2);
+			assertThat(Call.from(first.get(1))).isEqualTo(Call.from(items.get(1)));
+			assertThat(follower.poll()).isEmpty();
+			final var rest = Arrays.copyOfRange(bytes, head.length, bytes.length);
+			Files.write(file, rest, StandardOpenOption.APPEND);
+			final var last = follower.poll();
+			assertThat(last).hasSize(1);
+			assertThat(Call.from(last.get(0))).isEqualTo(Call.from(items.get(2)));
+			assertThat(follower.offset()).isEqualTo(bytes.length);
+		}
+	}
+}
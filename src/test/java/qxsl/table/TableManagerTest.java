@@ -5,10 +5,18 @@
 *******************************************************************************/
 package qxsl.table;
 
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+
+import javax.xml.namespace.QName;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import gaas.table.*;
+import qxsl.draft.*;
+import qxsl.field.FieldManager.Any;
+import qxsl.model.Item;
 
 /**
  * {@link TableManager}クラスのテスト用クラスです。
@@ -39,4 +47,58 @@ public final class TableManagerTest extends Assertions {
 	public void testIterator() {
 		assertThat(tables.iterator()).hasNext();
 	}
+
+	@Test
+	public void testDetect() {
+		final var item = new Item();
+		item.set(Time.now().copyDropSecond());
+		item.set(new Band(7_000));
+		item.set(new Call("JA1ZLO"));
+		item.set(new Mode("CW"));
+		item.getRcvd().set(new RSTQ(599));
+		item.getRcvd().set(new Code("100105"));
+		item.getSent().set(new RSTQ(599));
+		item.getSent().set(new Code("120103"));
+		final var code = new Item();
+		code.set(Time.now().copyDropSecond());
+		code.set(new Band(7_000));
+		code.set(new Call("JA1ZLO"));
+		code.set(new Mode("CW"));
+		code.getRcvd().set(new Code("100105"));
+		code.getSent().set(new Code("120103"));
+		final var adif = new Item();
+		adif.set(new Any(new QName("adif.org", "CALL"), "JA1ZLO"));
+		adif.set(new Any(new QName("adif.org", "BAND"), "40m"));
+		adif.set(new Any(new QName("adif.org", "MODE"), "CW"));
+		detect(tables.factory("qxml"), item);
+		detect(tables.factory("adxs"), adif);
+		detect(tables.factory("adis"), adif);
+		detect(tables.factory("cqww"), item);
+		detect(tables.factory("jarl"), item);
+		detect(tables.factory("ctxt"), code);
+		detect(tables.factory("zall"), item);
+		detect(tables.factory("zdos"), code);
+		detect(tables.factory("cbin"), code);
+		detect(tables.factory("zbin"), item);
+	}
+
+	@Test
+	public void testTrials() {
+		final var data = "\n".repeat(5000).concat("unknown format\n").getBytes();
+		assertThat(tables.detect(data, null).size()).isGreaterThan(2);
+		final var thrown = catchThrowable(() -> tables.decode(data, null));
+		assertThat(thrown).isInstanceOf(UncheckedIOException.class);
+		assertThat(thrown.getMessage().split("\n")).hasSizeLessThanOrEqualTo(2);
+	}
+
+	private void detect(TableFactory format, Item item) {
+		final var data = format.encode(item, item);
+		assertThat(tables.detect(data, null).get(0)).isSameAs(format);
+		assertThat(tables.detect(data, "log.txt")).contains(format);
+		assertThat(tables.decode(data, "log.txt")).hasSize(2);
+		final var is = new ByteArrayInputStream(data);
+		try(final var stream = tables.stream(is, null)) {
+			assertThat(stream).hasSize(2);
+		}
+	}
 }
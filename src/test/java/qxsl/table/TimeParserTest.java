@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.table;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import qxsl.draft.Time;
+
+/**
+ * {@link TimeParser}クラスのテスト用クラスです。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class TimeParserTest extends Assertions {
+	private final String pattern = "uuuu/MM/dd HH:mm";
+	private final DateTimeFormatter format = DateTimeFormatter.ofPattern(pattern);
+
+	@ParameterizedTest
+	@ValueSource(strings = {"Asia/Tokyo", "UTC", "Europe/London", "America/New_York"})
+	public void testParse(String name) {
+		final var zone = ZoneId.of(name);
+		final var parser = new TimeParser(pattern, format, zone);
+		var time = LocalDateTime.of(2019, 12, 31, 22, 58);
+		for(int i = 0; i < 3000; i++) {
+			final var text = format.format(time);
+			final var made = parser.parse(text);
+			assertThat(made).isEqualTo(new Time(time.atZone(zone)));
+			assertThat(made.value()).isEqualTo(time.atZone(zone));
+			assertThat(parser.parse(text)).isSameAs(made);
+			time = time.plusMinutes(i % 2 * 97);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"2020/02/30 00:00", "2020/01/01 24:00", "2020/13/01 12:00"})
+	public void testSmart(String text) {
+		final var parser = new TimeParser(pattern, format, ZoneOffset.UTC);
+		parser.parse("2020/01/01 12:00");
+		final var zone = format.withZone(ZoneOffset.UTC);
+		try {
+			final var time = new Time(ZonedDateTime.parse(text, zone));
+			assertThat(parser.parse(text)).isEqualTo(time);
+		} catch (DateTimeException ex) {
+			assertThatThrownBy(() -> parser.parse(text)).isInstanceOf(DateTimeException.class);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Amateur Radio Operational Logging Library 'qxsl' since 2013 February 16th
+ * License : GNU Lesser General Public License v3 (see LICENSE)
+ * Author: Journal of Hamradio Informatics (http://pafelog.net)
+*******************************************************************************/
+package qxsl.value;
+
+import javax.xml.namespace.QName;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import qxsl.draft.Call;
+import qxsl.draft.Qxsl;
+
+/**
+ * {@link Symbols}クラスのテスト用クラスです。
+ *
+ *
+ * @author 無線部開発班
+ *
+ * @since 2026/10/17
+ */
+public final class SymbolsTest extends Assertions {
+	@Test
+	public void testId() {
+		final var id = Symbols.id(Qxsl.CALL);
+		assertThat(Symbols.id(new QName(Qxsl.URI, "call"))).isEqualTo(id);
+		assertThat(Symbols.name(id)).isEqualTo(Qxsl.CALL);
+		assertThat(new Call("JA1ZLO").id()).isEqualTo(id);
+		assertThat(Symbols.id(Qxsl.BAND)).isNotEqualTo(id);
+	}
+
+	@Test
+	public void testIntern() {
+		final var name = new QName(Qxsl.URI, "call");
+		assertThat(Symbols.intern(Qxsl.URI, "call")).isSameAs(Qxsl.CALL);
+		assertThat(Symbols.intern(name)).isSameAs(Qxsl.CALL);
+		assertThatThrownBy(() -> Symbols.name(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Test
+	public void testUnknown() {
+		final var name = new QName("symbols.test", "unknown");
+		final var size = Symbols.size();
+		assertThat(Symbols.id(name)).isEqualTo(Symbols.UNKNOWN);
+		assertThat(Symbols.intern(name)).isSameAs(name);
+		assertThat(Symbols.intern("symbols.test", "unknown")).isSameAs(name);
+		assertThat(Symbols.size()).isEqualTo(size);
+	}
+
+	@Test
+	public void testCompare() {
+		final var call = new Call("JA1ZLO");
+		final var a = new QName("symbols.test", "a");
+		final var b = new QName("symbols.test", "b");
+		final var band = Symbols.id(Qxsl.BAND);
+		assertThat(Symbols.compare(call, Symbols.UNKNOWN, a)).isNegative();
+		assertThat(Symbols.compare(call, call.id(), Qxsl.CALL)).isZero();
+		assertThat(Integer.signum(Symbols.compare(call, band, Qxsl.BAND))).isEqualTo(Integer.signum(call.id() - band));
+	}
+}